@@ -37,6 +37,11 @@ public enum Alliance {
             return whitePlayer;
         }
 
+        @Override
+        public Alliance opposite() {
+            return BLACK;
+        }
+
         @Override
         public String toString() {
             return "White";
@@ -71,6 +76,11 @@ public enum Alliance {
         public int kingBonus(final int position) {
             return WHITE_KING_PREFERRED_COORDINATES[position];
         }
+
+        @Override
+        public int kingEndGameBonus(final int position) {
+            return WHITE_KING_END_GAME_PREFERRED_COORDINATES[position];
+        }
     },
     BLACK {
         @Override
@@ -103,6 +113,11 @@ public enum Alliance {
             return blackPlayer;
         }
 
+        @Override
+        public Alliance opposite() {
+            return WHITE;
+        }
+
         @Override
         public String toString() {
             return "Black";
@@ -137,6 +152,11 @@ public enum Alliance {
         public int kingBonus(final int position) {
             return BLACK_KING_PREFERRED_COORDINATES[position];
         }
+
+        @Override
+        public int kingEndGameBonus(final int position) {
+            return BLACK_KING_END_GAME_PREFERRED_COORDINATES[position];
+        }
     };
 
     public abstract int getDirection();
@@ -155,6 +175,8 @@ public enum Alliance {
 
     public abstract int kingBonus(int position);
 
+    public abstract int kingEndGameBonus(int position);
+
     public abstract boolean isWhite();
 
     public abstract boolean isBlack();
@@ -163,6 +185,8 @@ public enum Alliance {
 
     public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
 
+    public abstract Alliance opposite();
+
     private final static int[] WHITE_PAWN_PREFERRED_COORDINATES = {
             0, 0, 0, 0, 0, 0, 0, 0,
             75, 75, 75, 75, 75, 75, 75, 75,
@@ -283,6 +307,26 @@ public enum Alliance {
             -30, -40, -40, -50, -50, -40, -40, -30,
             -30, -40, -40, -50, -50, -40, -40, -30
     };
+    private final static int[] WHITE_KING_END_GAME_PREFERRED_COORDINATES = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50
+    };
+    private final static int[] BLACK_KING_END_GAME_PREFERRED_COORDINATES = {
+            -50, -30, -30, -30, -30, -30, -30, -50,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -50, -40, -30, -20, -20, -30, -40, -50
+    };
 
     private static final int UP_DIRECTION = -1;
     private static final int DOWN_DIRECTION = 1;
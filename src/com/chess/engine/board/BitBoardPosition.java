@@ -0,0 +1,27 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public interface BitBoardPosition {
+
+    Alliance getMoveMaker();
+
+    long getBitBoard(Alliance alliance, PieceType pieceType);
+
+    long getOccupancy(Alliance alliance);
+
+    long getOccupancy();
+
+    boolean isInCheck(Alliance alliance);
+
+    boolean isInCheckMate();
+
+    boolean isCastled(Alliance alliance);
+
+    long getZobristKey();
+
+    int getMaterialScore();
+
+    long getPawnKey();
+}
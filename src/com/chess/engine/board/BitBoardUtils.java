@@ -0,0 +1,156 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+public enum BitBoardUtils {
+
+    INSTANCE;
+
+    public static final long EMPTY_BOARD = 0L;
+    public static final long FULL_BOARD = ~0L;
+    public static final int NUM_PIECE_TYPES = PieceType.values().length;
+    public static final int NUM_BIT_BOARDS = NUM_PIECE_TYPES * Alliance.values().length;
+    public static final long[] COLUMN_MASKS = initColumnMasks();
+    public static final long[] ROW_MASKS = initRowMasks();
+    public static final int[][] KNIGHT_TARGETS = initJumpTargets(new int[][]{
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}});
+    public static final int[][] KING_TARGETS = initJumpTargets(new int[][]{
+            {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}});
+    public static final long[] KNIGHT_ATTACKS = initJumpAttacks(KNIGHT_TARGETS);
+    public static final long[] KING_ATTACKS = initJumpAttacks(KING_TARGETS);
+    private static final int[][][] PAWN_CAPTURE_TARGETS = {
+            initPawnCaptureTargets(Alliance.WHITE),
+            initPawnCaptureTargets(Alliance.BLACK)
+    };
+    private static final int[][][] PAWN_PUSH_TARGETS = {
+            initPawnPushTargets(Alliance.WHITE),
+            initPawnPushTargets(Alliance.BLACK)
+    };
+    private static final long[][] PAWN_ATTACKS = {
+            initJumpAttacks(PAWN_CAPTURE_TARGETS[Alliance.WHITE.ordinal()]),
+            initJumpAttacks(PAWN_CAPTURE_TARGETS[Alliance.BLACK.ordinal()])
+    };
+
+    private static long[] initColumnMasks() {
+        final long[] columnMasks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            columnMasks[i % BoardUtils.NUM_TILES_PER_ROW] |= squareMask(i);
+        }
+        return columnMasks;
+    }
+
+    private static long[] initRowMasks() {
+        final long[] rowMasks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            rowMasks[i / BoardUtils.NUM_TILES_PER_ROW] |= squareMask(i);
+        }
+        return rowMasks;
+    }
+
+    private static int[][] initJumpTargets(final int[][] offsets) {
+        final int[][] targets = new int[BoardUtils.NUM_TILES][];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final int row = i / BoardUtils.NUM_TILES_PER_ROW;
+            final int column = i % BoardUtils.NUM_TILES_PER_ROW;
+            final int[] squares = new int[offsets.length];
+            int numSquares = 0;
+            for (final int[] offset : offsets) {
+                final int r = row + offset[0];
+                final int c = column + offset[1];
+                if (r >= 0 && r < BoardUtils.NUM_TILES_PER_ROW && c >= 0 && c < BoardUtils.NUM_TILES_PER_ROW) {
+                    squares[numSquares++] = r * BoardUtils.NUM_TILES_PER_ROW + c;
+                }
+            }
+            targets[i] = Arrays.copyOf(squares, numSquares);
+        }
+        return targets;
+    }
+
+    private static int[][] initPawnCaptureTargets(final Alliance alliance) {
+        final int direction = alliance.getDirection();
+        return initJumpTargets(new int[][]{{direction, -direction}, {direction, direction}});
+    }
+
+    private static int[][] initPawnPushTargets(final Alliance alliance) {
+        final int direction = alliance.getDirection();
+        final int startRow = alliance.isWhite() ? 6 : 1;
+        final int[][] singlePushes = initJumpTargets(new int[][]{{direction, 0}});
+        final int[][] targets = new int[BoardUtils.NUM_TILES][];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            targets[i] = i / BoardUtils.NUM_TILES_PER_ROW == startRow ?
+                    new int[]{singlePushes[i][0], singlePushes[i][0] + direction * BoardUtils.NUM_TILES_PER_ROW} :
+                    singlePushes[i];
+        }
+        return targets;
+    }
+
+    private static long[] initJumpAttacks(final int[][] targets) {
+        final long[] attacks = new long[BoardUtils.NUM_TILES];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            for (final int target : targets[i]) {
+                attacks[i] |= squareMask(target);
+            }
+        }
+        return attacks;
+    }
+
+    public static int[] pawnCaptureTargets(final Alliance alliance,
+                                           final int coordinate) {
+        return PAWN_CAPTURE_TARGETS[alliance.ordinal()][coordinate];
+    }
+
+    public static int[] pawnPushTargets(final Alliance alliance,
+                                        final int coordinate) {
+        return PAWN_PUSH_TARGETS[alliance.ordinal()][coordinate];
+    }
+
+    public static long pawnAttacks(final Alliance alliance,
+                                   final int coordinate) {
+        return PAWN_ATTACKS[alliance.ordinal()][coordinate];
+    }
+
+    public static long squareMask(final int coordinate) {
+        return 1L << coordinate;
+    }
+
+    public static boolean isSet(final long bitBoard,
+                                final int coordinate) {
+        return (bitBoard & squareMask(coordinate)) != 0;
+    }
+
+    public static int bitCount(final long bitBoard) {
+        return Long.bitCount(bitBoard);
+    }
+
+    public static int firstSquare(final long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+
+    public static long clearFirstSquare(final long bitBoard) {
+        return bitBoard & (bitBoard - 1);
+    }
+
+    public static int bitBoardIndex(final Alliance alliance,
+                                    final PieceType pieceType) {
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    public static int bitBoardIndex(final Piece piece) {
+        return bitBoardIndex(piece.getPieceAlliance(), piece.getPieceType());
+    }
+
+    public static String toString(final long bitBoard) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            builder.append(String.format("%3s", isSet(bitBoard, i) ? "1" : "-"));
+            if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+}
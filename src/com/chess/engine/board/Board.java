@@ -1,48 +1,116 @@
 package com.chess.engine.board;
 
 import com.chess.engine.Alliance;
-import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.board.Move.CastleMove;
+import com.chess.engine.board.Move.PawnEnPassantAttack;
+import com.chess.engine.board.Move.PawnPromotion;
 import com.chess.engine.pieces.*;
 import com.chess.engine.player.BlackPlayer;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import com.chess.engine.pieces.Piece.PieceType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public final class Board {
-    private final Int2ObjectMap<Piece> boardConfig;
+public final class Board implements BitBoardPosition {
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    private final Piece[] boardConfig;
+    private final long overlayMask;
+    private final int[] overlayCoordinates;
+    private final Piece[] overlayPieces;
+    private final long[] pieceBitBoards;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    private final Alliance nextMoveMaker;
     private final Pawn enPassantPawn;
-    private final Move transitionMove;
+    private final int transitionMove;
+    private final int castlingRights;
+    private final long pieceKey;
+    private final int materialScore;
+    private final long pawnKey;
+    private final long zobristKey;
+    private volatile WhitePlayer whitePlayer;
+    private volatile BlackPlayer blackPlayer;
+    private volatile long whiteAttackedSquares;
+    private volatile long blackAttackedSquares;
+    private volatile GameStatus gameStatus;
+    private static final int EXPECTED_MOVES_PER_SIDE = 64;
+    private static final int MAX_OVERLAY_SIZE = 12;
+    private static final int[] NO_OVERLAY_COORDINATES = new int[0];
+    private static final Piece[] NO_OVERLAY_PIECES = new Piece[0];
     private static final Board STANDARD_BOARD = createStandardBoardImpl();
 
     private Board(final Builder builder) {
-        this.boardConfig = Int2ObjectMaps.unmodifiable(builder.boardConfig);
-        this.whitePieces = calculateActivePieces(builder, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(builder, Alliance.BLACK);
+        if (builder.parent != null && builder.overlaySize <= MAX_OVERLAY_SIZE) {
+            this.boardConfig = builder.boardConfig;
+            this.overlayMask = builder.overlayMask;
+            this.overlayCoordinates = Arrays.copyOf(builder.overlayCoordinates, builder.overlaySize);
+            this.overlayPieces = Arrays.copyOf(builder.overlayPieces, builder.overlaySize);
+        } else {
+            this.boardConfig = builder.compactBoardConfig();
+            this.overlayMask = BitBoardUtils.EMPTY_BOARD;
+            this.overlayCoordinates = NO_OVERLAY_COORDINATES;
+            this.overlayPieces = NO_OVERLAY_PIECES;
+        }
+        this.pieceBitBoards = builder.pieceBitBoards.clone();
+        this.whiteOccupancy = calculateOccupancy(this.pieceBitBoards, Alliance.WHITE);
+        this.blackOccupancy = calculateOccupancy(this.pieceBitBoards, Alliance.BLACK);
+        this.whitePieces = builder.isUnchanged(Alliance.WHITE, this.whiteOccupancy) ?
+                builder.parent.whitePieces : calculateActivePieces(this.whiteOccupancy);
+        this.blackPieces = builder.isUnchanged(Alliance.BLACK, this.blackOccupancy) ?
+                builder.parent.blackPieces : calculateActivePieces(this.blackOccupancy);
         this.enPassantPawn = builder.enPassantPawn;
-        final Collection<Move> whiteStandardMoves = calculateLegalMoves(this.whitePieces);
-        final Collection<Move> blackStandardMoves = calculateLegalMoves(this.blackPieces);
-        this.whitePlayer = new WhitePlayer(this, whiteStandardMoves, blackStandardMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardMoves, blackStandardMoves);
-        this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
-        this.transitionMove = builder.transitionMove != null ? builder.transitionMove : MoveFactory.getNullMove();
+        this.nextMoveMaker = builder.nextMoveMaker;
+        if (getBitBoard(Alliance.WHITE, PieceType.KING) == BitBoardUtils.EMPTY_BOARD ||
+                getBitBoard(Alliance.BLACK, PieceType.KING) == BitBoardUtils.EMPTY_BOARD) {
+            throw new RuntimeException("Invalid board! Both players need a king");
+        }
+        this.transitionMove = builder.transitionMove != null ? MoveEncoding.encode(builder.transitionMove) : MoveEncoding.NULL_MOVE;
+        this.castlingRights = calculateCastlingRights(Alliance.WHITE) | calculateCastlingRights(Alliance.BLACK);
+        this.pieceKey = builder.pieceKey != null ? builder.pieceKey : calculatePieceKey();
+        this.materialScore = builder.materialScore != null ? builder.materialScore : calculateMaterialScore();
+        this.pawnKey = builder.pawnKey != null ? builder.pawnKey : calculatePawnKey();
+        this.zobristKey = calculateZobristKey();
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (this.zobristKey ^ (this.zobristKey >>> 32));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Board)) {
+            return false;
+        }
+        final Board otherBoard = (Board) other;
+        return this.zobristKey == otherBoard.zobristKey &&
+                this.nextMoveMaker == otherBoard.nextMoveMaker &&
+                this.castlingRights == otherBoard.castlingRights &&
+                getEnPassantSquare() == otherBoard.getEnPassantSquare() &&
+                Arrays.equals(this.pieceBitBoards, otherBoard.pieceBitBoards);
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            final String tileText = prettyPrint(this.boardConfig.get(i));
+            final String tileText = prettyPrint(getPiece(i));
             builder.append(String.format("%3s", tileText));
             if ((i + 1) % 8 == 0) {
                 builder.append("\n");
@@ -68,39 +136,225 @@ public final class Board {
     }
 
     public Collection<Piece> getAllPieces() {
-        return Stream.concat(this.whitePieces.stream(),
-                this.blackPieces.stream()).collect(Collectors.toList());
+        final List<Piece> allPieces = new ArrayList<>(this.whitePieces.size() + this.blackPieces.size());
+        allPieces.addAll(this.whitePieces);
+        allPieces.addAll(this.blackPieces);
+        return allPieces;
     }
 
     public Collection<Move> getAllLegalMoves() {
-        return Stream.concat(this.whitePlayer.getLegalMoves().stream(),
-                this.blackPlayer.getLegalMoves().stream()).collect(Collectors.toList());
+        return Stream.concat(whitePlayer().getLegalMoves().stream(),
+                blackPlayer().getLegalMoves().stream()).collect(Collectors.toList());
+    }
+
+    public Move getLegalMove(final int currentCoordinate,
+                             final int destinationCoordinate,
+                             final PieceType promotionType) {
+        if (!BoardUtils.isValidTileCoordinate(currentCoordinate) || getPiece(currentCoordinate) == null) {
+            return null;
+        }
+        return getPiece(currentCoordinate).getPieceAlliance().choosePlayer(whitePlayer(), blackPlayer())
+                .getLegalMove(currentCoordinate, destinationCoordinate, promotionType);
     }
 
     public WhitePlayer whitePlayer() {
+        if (this.whitePlayer == null) {
+            calculatePlayers();
+        }
         return this.whitePlayer;
     }
 
     public BlackPlayer blackPlayer() {
+        if (this.blackPlayer == null) {
+            calculatePlayers();
+        }
         return this.blackPlayer;
     }
 
     public Player currentPlayer() {
-        return this.currentPlayer;
+        return this.nextMoveMaker.choosePlayer(whitePlayer(), blackPlayer());
+    }
+
+    @Override
+    public Alliance getMoveMaker() {
+        return this.nextMoveMaker;
+    }
+
+    public GameStatus getGameStatus() {
+        GameStatus status = this.gameStatus;
+        if (status == null) {
+            status = calculateGameStatus();
+            this.gameStatus = status;
+        }
+        return status;
+    }
+
+    @Override
+    public boolean isInCheck(final Alliance alliance) {
+        return (getAttackedSquares(alliance.opposite()) & getBitBoard(alliance, PieceType.KING)) != BitBoardUtils.EMPTY_BOARD;
+    }
+
+    @Override
+    public boolean isInCheckMate() {
+        return getGameStatus() == GameStatus.CHECKMATE;
+    }
+
+    @Override
+    public boolean isCastled(final Alliance alliance) {
+        return ((King) getPiece(BitBoardUtils.firstSquare(getBitBoard(alliance, PieceType.KING)))).isCastled();
+    }
+
+    public boolean isSquareAttacked(final int coordinate,
+                                    final Alliance attackingAlliance) {
+        return BitBoardUtils.isSet(getAttackedSquares(attackingAlliance), coordinate);
+    }
+
+    public long getAttackedSquares(final Alliance alliance) {
+        long attackedSquares = alliance.isWhite() ? this.whiteAttackedSquares : this.blackAttackedSquares;
+        if (attackedSquares == BitBoardUtils.EMPTY_BOARD) {
+            attackedSquares = calculateAttackedSquares(alliance);
+            if (alliance.isWhite()) {
+                this.whiteAttackedSquares = attackedSquares;
+            } else {
+                this.blackAttackedSquares = attackedSquares;
+            }
+        }
+        return attackedSquares;
+    }
+
+    public long getAttacks(final int coordinate) {
+        final Piece piece = getPiece(coordinate);
+        if (piece == null) {
+            return BitBoardUtils.EMPTY_BOARD;
+        }
+        switch (piece.getPieceType()) {
+            case PAWN:
+                return BitBoardUtils.pawnAttacks(piece.getPieceAlliance(), coordinate);
+            case KNIGHT:
+                return BitBoardUtils.KNIGHT_ATTACKS[coordinate];
+            case BISHOP:
+                return MagicBitBoards.bishopAttacks(coordinate, getOccupancy());
+            case ROOK:
+                return MagicBitBoards.rookAttacks(coordinate, getOccupancy());
+            case QUEEN:
+                return MagicBitBoards.queenAttacks(coordinate, getOccupancy());
+            default:
+                return BitBoardUtils.KING_ATTACKS[coordinate];
+        }
+    }
+
+    public boolean givesCheck(final Move move) {
+        final Piece movedPiece = move.getMovedPiece();
+        final Alliance alliance = movedPiece.getPieceAlliance();
+        final int kingPosition = BitBoardUtils.firstSquare(getBitBoard(alliance.opposite(), PieceType.KING));
+        final long fromMask = BitBoardUtils.squareMask(move.getCurrentCoordinate());
+        final long toMask = BitBoardUtils.squareMask(move.getDestinationCoordinate());
+        final PieceType arrivingType = move instanceof PawnPromotion ?
+                ((PawnPromotion) move).getPromotionPiece().getPieceType() : movedPiece.getPieceType();
+        long occupancy = (getOccupancy() & ~fromMask) | toMask;
+        long rooksAndQueens = (getBitBoard(alliance, PieceType.ROOK) | getBitBoard(alliance, PieceType.QUEEN)) & ~fromMask;
+        long bishopsAndQueens = (getBitBoard(alliance, PieceType.BISHOP) | getBitBoard(alliance, PieceType.QUEEN)) & ~fromMask;
+        if (move instanceof PawnEnPassantAttack) {
+            occupancy &= ~BitBoardUtils.squareMask(move.getAttackedPiece().getPiecePosition());
+        } else if (move instanceof CastleMove) {
+            final CastleMove castleMove = (CastleMove) move;
+            final long rookStartMask = BitBoardUtils.squareMask(castleMove.castleRookStart);
+            final long rookDestinationMask = BitBoardUtils.squareMask(castleMove.castleRookDestination);
+            occupancy = (occupancy & ~rookStartMask) | rookDestinationMask;
+            rooksAndQueens = (rooksAndQueens & ~rookStartMask) | rookDestinationMask;
+        }
+        if (arrivingType == PieceType.ROOK || arrivingType == PieceType.QUEEN) {
+            rooksAndQueens |= toMask;
+        }
+        if (arrivingType == PieceType.BISHOP || arrivingType == PieceType.QUEEN) {
+            bishopsAndQueens |= toMask;
+        }
+        if (arrivingType == PieceType.PAWN &&
+                BitBoardUtils.isSet(BitBoardUtils.pawnAttacks(alliance, move.getDestinationCoordinate()), kingPosition)) {
+            return true;
+        }
+        if (arrivingType == PieceType.KNIGHT &&
+                BitBoardUtils.isSet(BitBoardUtils.KNIGHT_ATTACKS[move.getDestinationCoordinate()], kingPosition)) {
+            return true;
+        }
+        return (MagicBitBoards.rookAttacks(kingPosition, occupancy) & rooksAndQueens) != BitBoardUtils.EMPTY_BOARD ||
+                (MagicBitBoards.bishopAttacks(kingPosition, occupancy) & bishopsAndQueens) != BitBoardUtils.EMPTY_BOARD;
+    }
+
+    public long getPinnedPieces(final Alliance alliance) {
+        return calculatePinnedPieces(alliance, null);
     }
 
     public Piece getPiece(final int coordinate) {
-        return this.boardConfig.get(coordinate);
+        if (BitBoardUtils.isSet(this.overlayMask, coordinate)) {
+            for (int i = 0; i < this.overlayCoordinates.length; i++) {
+                if (this.overlayCoordinates[i] == coordinate) {
+                    return this.overlayPieces[i];
+                }
+            }
+        }
+        return this.boardConfig[coordinate];
+    }
+
+    public boolean isTileOccupied(final int coordinate) {
+        return BitBoardUtils.isSet(getOccupancy(), coordinate);
+    }
+
+    @Override
+    public long getBitBoard(final Alliance alliance,
+                            final PieceType pieceType) {
+        return this.pieceBitBoards[BitBoardUtils.bitBoardIndex(alliance, pieceType)];
+    }
+
+    @Override
+    public long getOccupancy(final Alliance alliance) {
+        return alliance.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    @Override
+    public long getOccupancy() {
+        return this.whiteOccupancy | this.blackOccupancy;
     }
 
     public Pawn getEnPassantPawn() {
         return this.enPassantPawn;
     }
 
-    public Move getTransitionMove() {
+    public int getTransitionMove() {
         return this.transitionMove;
     }
 
+    public int getEnPassantSquare() {
+        if (this.enPassantPawn == null) {
+            return -1;
+        }
+        return this.enPassantPawn.getPiecePosition() -
+                (this.enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW);
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    @Override
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    long getPieceKey() {
+        return this.pieceKey;
+    }
+
+    @Override
+    public int getMaterialScore() {
+        return this.materialScore;
+    }
+
+    @Override
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
     public static Board createStandardBoard() {
         return STANDARD_BOARD;
     }
@@ -108,72 +362,312 @@ public final class Board {
     private static Board createStandardBoardImpl() {
         final Builder builder = new Builder();
         // Black Layout
-        builder.setPiece(new Rook(Alliance.BLACK, 0));
-        builder.setPiece(new Knight(Alliance.BLACK, 1));
-        builder.setPiece(new Bishop(Alliance.BLACK, 2));
-        builder.setPiece(new Queen(Alliance.BLACK, 3));
-        builder.setPiece(new King(Alliance.BLACK, 4, true, true));
-        builder.setPiece(new Bishop(Alliance.BLACK, 5));
-        builder.setPiece(new Knight(Alliance.BLACK, 6));
-        builder.setPiece(new Rook(Alliance.BLACK, 7));
-        builder.setPiece(new Pawn(Alliance.BLACK, 8));
-        builder.setPiece(new Pawn(Alliance.BLACK, 9));
-        builder.setPiece(new Pawn(Alliance.BLACK, 10));
-        builder.setPiece(new Pawn(Alliance.BLACK, 11));
-        builder.setPiece(new Pawn(Alliance.BLACK, 12));
-        builder.setPiece(new Pawn(Alliance.BLACK, 13));
-        builder.setPiece(new Pawn(Alliance.BLACK, 14));
-        builder.setPiece(new Pawn(Alliance.BLACK, 15));
+        builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.BLACK, 0, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.BLACK, 1, true));
+        builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.BLACK, 2, true));
+        builder.setPiece(PieceUtils.INSTANCE.getQueen(Alliance.BLACK, 3, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKing(Alliance.BLACK, 4, true, false, true, true));
+        builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.BLACK, 5, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.BLACK, 6, true));
+        builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.BLACK, 7, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 8, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 9, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 10, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 11, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 12, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 13, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 14, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, 15, true));
         // White Layout
-        builder.setPiece(new Pawn(Alliance.WHITE, 48));
-        builder.setPiece(new Pawn(Alliance.WHITE, 49));
-        builder.setPiece(new Pawn(Alliance.WHITE, 50));
-        builder.setPiece(new Pawn(Alliance.WHITE, 51));
-        builder.setPiece(new Pawn(Alliance.WHITE, 52));
-        builder.setPiece(new Pawn(Alliance.WHITE, 53));
-        builder.setPiece(new Pawn(Alliance.WHITE, 54));
-        builder.setPiece(new Pawn(Alliance.WHITE, 55));
-        builder.setPiece(new Rook(Alliance.WHITE, 56));
-        builder.setPiece(new Knight(Alliance.WHITE, 57));
-        builder.setPiece(new Bishop(Alliance.WHITE, 58));
-        builder.setPiece(new Queen(Alliance.WHITE, 59));
-        builder.setPiece(new King(Alliance.WHITE, 60, true, true));
-        builder.setPiece(new Bishop(Alliance.WHITE, 61));
-        builder.setPiece(new Knight(Alliance.WHITE, 62));
-        builder.setPiece(new Rook(Alliance.WHITE, 63));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 48, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 49, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 50, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 51, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 52, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 53, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 54, true));
+        builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 55, true));
+        builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.WHITE, 56, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.WHITE, 57, true));
+        builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.WHITE, 58, true));
+        builder.setPiece(PieceUtils.INSTANCE.getQueen(Alliance.WHITE, 59, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKing(Alliance.WHITE, 60, true, false, true, true));
+        builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.WHITE, 61, true));
+        builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.WHITE, 62, true));
+        builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.WHITE, 63, true));
         //white to move
         builder.setMoveMaker(Alliance.WHITE);
         //build the board
         return builder.build();
     }
 
+    private synchronized void calculatePlayers() {
+        if (this.whitePlayer != null) {
+            return;
+        }
+        final Collection<Move> whiteStandardMoves = calculateLegalMoves(this.whitePieces);
+        final Collection<Move> blackStandardMoves = calculateLegalMoves(this.blackPieces);
+        this.blackPlayer = new BlackPlayer(this, whiteStandardMoves, blackStandardMoves);
+        this.whitePlayer = new WhitePlayer(this, whiteStandardMoves, blackStandardMoves);
+    }
+
+    long calculateAttackers(final int coordinate,
+                            final Alliance attackingAlliance) {
+        return calculateAttackers(coordinate, attackingAlliance, getOccupancy());
+    }
+
+    long calculateAttackers(final int coordinate,
+                            final Alliance attackingAlliance,
+                            final long occupancy) {
+        final long rooksAndQueens = getBitBoard(attackingAlliance, PieceType.ROOK) |
+                getBitBoard(attackingAlliance, PieceType.QUEEN);
+        final long bishopsAndQueens = getBitBoard(attackingAlliance, PieceType.BISHOP) |
+                getBitBoard(attackingAlliance, PieceType.QUEEN);
+        return (BitBoardUtils.pawnAttacks(attackingAlliance.opposite(), coordinate) & getBitBoard(attackingAlliance, PieceType.PAWN)) |
+                (BitBoardUtils.KNIGHT_ATTACKS[coordinate] & getBitBoard(attackingAlliance, PieceType.KNIGHT)) |
+                (BitBoardUtils.KING_ATTACKS[coordinate] & getBitBoard(attackingAlliance, PieceType.KING)) |
+                (MagicBitBoards.rookAttacks(coordinate, occupancy) & rooksAndQueens) |
+                (MagicBitBoards.bishopAttacks(coordinate, occupancy) & bishopsAndQueens);
+    }
+
+    private GameStatus calculateGameStatus() {
+        final boolean hasLegalMove;
+        if (this.whitePlayer != null) {
+            hasLegalMove = !currentPlayer().getLegalMoves().isEmpty();
+        } else {
+            hasLegalMove = new LegalMoveGenerator(this, this.nextMoveMaker).hasLegalMove();
+        }
+        if (hasLegalMove) {
+            return GameStatus.IN_PLAY;
+        }
+        return isInCheck(this.nextMoveMaker) ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+    }
+
+    private long calculateAttackedSquares(final Alliance alliance) {
+        long attackedSquares = BitBoardUtils.EMPTY_BOARD;
+        long pieces = getOccupancy(alliance);
+        while (pieces != BitBoardUtils.EMPTY_BOARD) {
+            attackedSquares |= getAttacks(BitBoardUtils.firstSquare(pieces));
+            pieces = BitBoardUtils.clearFirstSquare(pieces);
+        }
+        return attackedSquares;
+    }
+
+    long calculatePinnedPieces(final Alliance alliance,
+                               final long[] pinRays) {
+        final Alliance opponent = alliance.opposite();
+        final int kingPosition = BitBoardUtils.firstSquare(getBitBoard(alliance, PieceType.KING));
+        final long opponentOccupancy = getOccupancy(opponent);
+        final long queens = getBitBoard(opponent, PieceType.QUEEN);
+        long snipers = (MagicBitBoards.rookAttacks(kingPosition, opponentOccupancy) &
+                (getBitBoard(opponent, PieceType.ROOK) | queens)) |
+                (MagicBitBoards.bishopAttacks(kingPosition, opponentOccupancy) &
+                        (getBitBoard(opponent, PieceType.BISHOP) | queens));
+        final long occupancy = getOccupancy();
+        final long ownOccupancy = getOccupancy(alliance);
+        long pinned = BitBoardUtils.EMPTY_BOARD;
+        while (snipers != BitBoardUtils.EMPTY_BOARD) {
+            final int sniperPosition = BitBoardUtils.firstSquare(snipers);
+            final long between = MagicBitBoards.squaresBetween(kingPosition, sniperPosition);
+            final long blockers = between & occupancy;
+            if (BitBoardUtils.bitCount(blockers) == 1 && (blockers & ownOccupancy) != BitBoardUtils.EMPTY_BOARD) {
+                pinned |= blockers;
+                if (pinRays != null) {
+                    pinRays[BitBoardUtils.firstSquare(blockers)] = between | BitBoardUtils.squareMask(sniperPosition);
+                }
+            }
+            snipers = BitBoardUtils.clearFirstSquare(snipers);
+        }
+        return pinned;
+    }
+
     private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
-        return pieces.stream().flatMap(piece -> piece.calculateLegalMoves(this).stream())
-                .collect(Collectors.toList());
+        final List<Move> legalMoves = new ArrayList<>(EXPECTED_MOVES_PER_SIDE);
+        for (final Piece piece : pieces) {
+            piece.generateMoves(this, legalMoves);
+        }
+        return legalMoves;
     }
 
-    private static Collection<Piece> calculateActivePieces(final Builder builder,
-                                                           final Alliance alliance) {
-        return builder.boardConfig.values().stream()
-                .filter(piece -> piece.getPieceAlliance() == alliance)
-                .collect(Collectors.toList());
+    private long calculatePieceKey() {
+        long key = this.nextMoveMaker.isBlack() ? Zobrist.sideKey() : 0L;
+        long remaining = getOccupancy();
+        while (remaining != BitBoardUtils.EMPTY_BOARD) {
+            final int coordinate = BitBoardUtils.firstSquare(remaining);
+            key ^= Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(getPiece(coordinate)), coordinate);
+            remaining = BitBoardUtils.clearFirstSquare(remaining);
+        }
+        return key;
+    }
+
+    private int calculateMaterialScore() {
+        int score = 0;
+        long remaining = getOccupancy();
+        while (remaining != BitBoardUtils.EMPTY_BOARD) {
+            score += PieceSquareTable.score(getPiece(BitBoardUtils.firstSquare(remaining)));
+            remaining = BitBoardUtils.clearFirstSquare(remaining);
+        }
+        return score;
+    }
+
+    private long calculatePawnKey() {
+        long key = 0L;
+        for (final Alliance alliance : Alliance.values()) {
+            final int pawnIndex = BitBoardUtils.bitBoardIndex(alliance, PieceType.PAWN);
+            long remaining = this.pieceBitBoards[pawnIndex];
+            while (remaining != BitBoardUtils.EMPTY_BOARD) {
+                key ^= Zobrist.pieceKey(pawnIndex, BitBoardUtils.firstSquare(remaining));
+                remaining = BitBoardUtils.clearFirstSquare(remaining);
+            }
+        }
+        return key;
+    }
+
+    private long calculateZobristKey() {
+        final int enPassantSquare = getEnPassantSquare();
+        final long key = this.pieceKey ^ Zobrist.castlingKey(this.castlingRights);
+        return enPassantSquare != -1 ?
+                key ^ Zobrist.enPassantKey(enPassantSquare % BoardUtils.NUM_TILES_PER_ROW) : key;
+    }
+
+    private int calculateCastlingRights(final Alliance alliance) {
+        final int kingPosition = alliance.isWhite() ? 60 : 4;
+        final Piece king = getPiece(kingPosition);
+        if (king == null || !king.getPieceType().isKing() || king.getPieceAlliance() != alliance ||
+                !king.isFirstMove() || ((King) king).isCastled() ||
+                !(((King) king).isKingSideCastleCapable() || ((King) king).isQueenSideCastleCapable())) {
+            return 0;
+        }
+        final int kingSide = alliance.isWhite() ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSide = alliance.isWhite() ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        return (((King) king).isKingSideCastleCapable() && isUnmovedRook(getPiece(kingPosition + 3), alliance) ? kingSide : 0) |
+                (((King) king).isQueenSideCastleCapable() && isUnmovedRook(getPiece(kingPosition - 4), alliance) ? queenSide : 0);
+    }
+
+    private static boolean isUnmovedRook(final Piece piece,
+                                         final Alliance alliance) {
+        return piece != null && piece.getPieceType().isRook() &&
+                piece.getPieceAlliance() == alliance && piece.isFirstMove();
+    }
+
+    private static long calculateOccupancy(final long[] pieceBitBoards,
+                                           final Alliance alliance) {
+        long occupancy = BitBoardUtils.EMPTY_BOARD;
+        for (final PieceType pieceType : PieceType.values()) {
+            occupancy |= pieceBitBoards[BitBoardUtils.bitBoardIndex(alliance, pieceType)];
+        }
+        return occupancy;
+    }
+
+    private Collection<Piece> calculateActivePieces(final long occupancy) {
+        final List<Piece> activePieces = new ArrayList<>(BitBoardUtils.bitCount(occupancy));
+        long remaining = occupancy;
+        while (remaining != BitBoardUtils.EMPTY_BOARD) {
+            activePieces.add(getPiece(BitBoardUtils.firstSquare(remaining)));
+            remaining = BitBoardUtils.clearFirstSquare(remaining);
+        }
+        return Collections.unmodifiableList(activePieces);
     }
 
     public static class Builder {
-        Int2ObjectMap<Piece> boardConfig;
+        Piece[] boardConfig;
+        long[] pieceBitBoards;
         Alliance nextMoveMaker;
         Pawn enPassantPawn;
         Move transitionMove;
+        Long pieceKey;
+        Integer materialScore;
+        Long pawnKey;
+        final Board parent;
+        long overlayMask;
+        int[] overlayCoordinates;
+        Piece[] overlayPieces;
+        int overlaySize;
+        long changedSquares;
 
         public Builder() {
-            this.boardConfig = new Int2ObjectOpenHashMap<>(32, 1.0f);
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+            this.pieceBitBoards = new long[BitBoardUtils.NUM_BIT_BOARDS];
+            this.parent = null;
+        }
+
+        Builder(final Board parent) {
+            this.boardConfig = parent.boardConfig;
+            this.pieceBitBoards = parent.pieceBitBoards.clone();
+            this.parent = parent;
+            this.overlayMask = parent.overlayMask;
+            this.overlayCoordinates = Arrays.copyOf(parent.overlayCoordinates, MAX_OVERLAY_SIZE + 4);
+            this.overlayPieces = Arrays.copyOf(parent.overlayPieces, MAX_OVERLAY_SIZE + 4);
+            this.overlaySize = parent.overlayCoordinates.length;
         }
 
         public Builder setPiece(final Piece piece) {
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            final int coordinate = piece.getPiecePosition();
+            clearSquare(coordinate);
+            writeSquare(coordinate, piece);
+            this.pieceBitBoards[BitBoardUtils.bitBoardIndex(piece)] |= BitBoardUtils.squareMask(coordinate);
             return this;
         }
 
+        Builder clearSquare(final int coordinate) {
+            final Piece replacedPiece = getPiece(coordinate);
+            if (replacedPiece != null) {
+                this.pieceBitBoards[BitBoardUtils.bitBoardIndex(replacedPiece)] &= ~BitBoardUtils.squareMask(coordinate);
+                writeSquare(coordinate, null);
+            }
+            return this;
+        }
+
+        private Piece getPiece(final int coordinate) {
+            if (BitBoardUtils.isSet(this.overlayMask, coordinate)) {
+                for (int i = 0; i < this.overlaySize; i++) {
+                    if (this.overlayCoordinates[i] == coordinate) {
+                        return this.overlayPieces[i];
+                    }
+                }
+            }
+            return this.boardConfig[coordinate];
+        }
+
+        private void writeSquare(final int coordinate,
+                                 final Piece piece) {
+            if (this.parent == null) {
+                this.boardConfig[coordinate] = piece;
+                return;
+            }
+            this.changedSquares |= BitBoardUtils.squareMask(coordinate);
+            if (BitBoardUtils.isSet(this.overlayMask, coordinate)) {
+                for (int i = 0; i < this.overlaySize; i++) {
+                    if (this.overlayCoordinates[i] == coordinate) {
+                        this.overlayPieces[i] = piece;
+                        return;
+                    }
+                }
+            }
+            if (this.overlaySize == this.overlayCoordinates.length) {
+                this.overlayCoordinates = Arrays.copyOf(this.overlayCoordinates, 2 * this.overlaySize);
+                this.overlayPieces = Arrays.copyOf(this.overlayPieces, 2 * this.overlaySize);
+            }
+            this.overlayCoordinates[this.overlaySize] = coordinate;
+            this.overlayPieces[this.overlaySize] = piece;
+            this.overlaySize++;
+            this.overlayMask |= BitBoardUtils.squareMask(coordinate);
+        }
+
+        Piece[] compactBoardConfig() {
+            final Piece[] compacted = this.boardConfig.clone();
+            for (int i = 0; i < this.overlaySize; i++) {
+                compacted[this.overlayCoordinates[i]] = this.overlayPieces[i];
+            }
+            return compacted;
+        }
+
+        boolean isUnchanged(final Alliance alliance,
+                            final long occupancy) {
+            return this.parent != null &&
+                    (this.changedSquares & (this.parent.getOccupancy(alliance) | occupancy)) == BitBoardUtils.EMPTY_BOARD;
+        }
+
         public Builder setMoveMaker(final Alliance nextMoveMaker) {
             this.nextMoveMaker = nextMoveMaker;
             return this;
@@ -189,6 +683,21 @@ public final class Board {
             return this;
         }
 
+        Builder setPieceKey(final long pieceKey) {
+            this.pieceKey = pieceKey;
+            return this;
+        }
+
+        Builder setMaterialScore(final int materialScore) {
+            this.materialScore = materialScore;
+            return this;
+        }
+
+        Builder setPawnKey(final long pawnKey) {
+            this.pawnKey = pawnKey;
+            return this;
+        }
+
         public Board build() {
             return new Board(this);
         }
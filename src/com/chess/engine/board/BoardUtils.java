@@ -1,12 +1,10 @@
 package com.chess.engine.board;
 
-import com.chess.engine.pieces.King;
+import com.chess.engine.Alliance;
 import com.chess.engine.pieces.Piece;
 
 import java.util.*;
 
-import static com.chess.engine.board.Move.MoveFactory;
-
 public enum BoardUtils {
 
     INSTANCE;
@@ -90,22 +88,11 @@ public enum BoardUtils {
     }
 
     public static boolean isThreatenedBoardImmediate(final Board board) {
-        return board.whitePlayer().isInCheck() || board.blackPlayer().isInCheck();
+        return board.isInCheck(Alliance.WHITE) || board.isInCheck(Alliance.BLACK);
     }
 
     public static boolean kingThreat(final Move move) {
-        final Board board = move.getBoard();
-        final MoveTransition transition = board.currentPlayer().makeMove(move);
-        return transition.getToBoard().currentPlayer().isInCheck();
-    }
-
-    public static boolean isKingPawnTrap(final Board board,
-                                         final King king,
-                                         final int frontTile) {
-        final Piece piece = board.getPiece(frontTile);
-        return piece != null &&
-                piece.getPieceType().isPawn() &&
-                piece.getPieceAlliance() != king.getPieceAlliance();
+        return move.getBoard().givesCheck(move);
     }
 
     public static int mvvlva(final Move move) {
@@ -117,20 +104,24 @@ public enum BoardUtils {
         return Piece.PieceType.KING.getPieceValue() - movingPiece.getPieceValue();
     }
 
-    public static List<Move> lastNMoves(final Board board, int N) {
-        final List<Move> moveHistory = new ArrayList<>();
-        Move currentMove = board.getTransitionMove();
-        int i = 0;
-        while (currentMove != MoveFactory.getNullMove() && i < N) {
-            moveHistory.add(currentMove);
-            currentMove = currentMove.getBoard().getTransitionMove();
-            i++;
+    public static int mvvlva(final int move) {
+        final Piece.PieceType movedPieceType = MoveEncoding.getMovedPieceType(move);
+        final Piece.PieceType capturedPieceType = MoveEncoding.getCapturedPieceType(move);
+        if (capturedPieceType != null) {
+            return (capturedPieceType.getPieceValue() - movedPieceType.getPieceValue() + Piece.PieceType.KING.getPieceValue()) * 100;
+        }
+        return Piece.PieceType.KING.getPieceValue() - movedPieceType.getPieceValue();
+    }
+
+    public static int[] lastNMoves(final GameHistory history, final int N) {
+        final int[] moveHistory = new int[Math.max(0, Math.min(N, history.size()))];
+        for (int i = 0; i < moveHistory.length; i++) {
+            moveHistory[i] = history.getLastMove(i);
         }
-        return Collections.unmodifiableList(moveHistory);
+        return moveHistory;
     }
 
     public static boolean isEndGame(final Board board) {
-        return board.currentPlayer().isInCheckMate() ||
-                board.currentPlayer().isInStaleMate();
+        return board.getGameStatus().isTerminal();
     }
 }
@@ -0,0 +1,117 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class GameHistory {
+
+    private static final int CHECKPOINT_INTERVAL = 16;
+
+    private final Board startBoard;
+    private final List<Board> checkpoints;
+    private final List<String> moveTexts;
+    private int[] moves;
+    private int size;
+    private Board currentBoard;
+
+    public GameHistory(final Board startBoard) {
+        this.startBoard = startBoard;
+        this.checkpoints = new ArrayList<>();
+        this.checkpoints.add(startBoard);
+        this.moveTexts = new ArrayList<>();
+        this.moves = new int[64];
+        this.size = 0;
+        this.currentBoard = startBoard;
+    }
+
+    public void addMove(final Move move,
+                        final Board toBoard) {
+        if (this.size == this.moves.length) {
+            this.moves = Arrays.copyOf(this.moves, 2 * this.moves.length);
+        }
+        this.moves[this.size++] = MoveEncoding.encode(move);
+        this.moveTexts.add(move.toString());
+        if (this.size % CHECKPOINT_INTERVAL == 0) {
+            this.checkpoints.add(toBoard);
+        }
+        this.currentBoard = toBoard;
+    }
+
+    public Board undoLastMove() {
+        if (this.size == 0) {
+            return this.currentBoard;
+        }
+        if (this.size % CHECKPOINT_INTERVAL == 0) {
+            this.checkpoints.remove(this.checkpoints.size() - 1);
+        }
+        this.size--;
+        this.moveTexts.remove(this.size);
+        this.currentBoard = replay(this.size);
+        return this.currentBoard;
+    }
+
+    public void clear() {
+        this.checkpoints.subList(1, this.checkpoints.size()).clear();
+        this.moveTexts.clear();
+        this.size = 0;
+        this.currentBoard = this.startBoard;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getMove(final int ply) {
+        checkPly(ply);
+        return this.moves[ply];
+    }
+
+    public String getMoveText(final int ply) {
+        checkPly(ply);
+        return this.moveTexts.get(ply);
+    }
+
+    public Alliance getMoveMaker(final int ply) {
+        checkPly(ply);
+        final Alliance firstMoveMaker = this.startBoard.getMoveMaker();
+        return ply % 2 == 0 ? firstMoveMaker : firstMoveMaker.opposite();
+    }
+
+    public int getLastMove(final int pliesAgo) {
+        final int ply = this.size - 1 - pliesAgo;
+        return ply >= 0 && pliesAgo >= 0 ? this.moves[ply] : MoveEncoding.NULL_MOVE;
+    }
+
+    public Board getBoard(final int ply) {
+        if (ply < 0 || ply > this.size) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " out of range 0.." + this.size);
+        }
+        return ply == this.size ? this.currentBoard : replay(ply);
+    }
+
+    public Board getStartBoard() {
+        return this.startBoard;
+    }
+
+    public Board getCurrentBoard() {
+        return this.currentBoard;
+    }
+
+    private Board replay(final int ply) {
+        Board board = this.checkpoints.get(ply / CHECKPOINT_INTERVAL);
+        for (int i = (ply / CHECKPOINT_INTERVAL) * CHECKPOINT_INTERVAL; i < ply; i++) {
+            final Move move = MoveEncoding.decode(board, this.moves[i]);
+            board = board.currentPlayer().makeMove(move).getToBoard();
+        }
+        return board;
+    }
+
+    private void checkPly(final int ply) {
+        if (ply < 0 || ply >= this.size) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " out of range 0.." + (this.size - 1));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.chess.engine.board;
+
+public enum GameStatus {
+    IN_PLAY {
+        @Override
+        public boolean isTerminal() {
+            return false;
+        }
+    },
+    CHECKMATE {
+        @Override
+        public boolean isTerminal() {
+            return true;
+        }
+    },
+    STALEMATE {
+        @Override
+        public boolean isTerminal() {
+            return true;
+        }
+    };
+
+    public abstract boolean isTerminal();
+}
@@ -0,0 +1,151 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Move.PawnEnPassantAttack;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class LegalMoveGenerator {
+    private final Board board;
+    private final Alliance alliance;
+    private final int kingPosition;
+    private final long checkers;
+    private final long evasionMask;
+    private final long pinnedPieces;
+    private final long[] pinRays;
+
+    public LegalMoveGenerator(final Board board,
+                              final Alliance alliance) {
+        this.board = board;
+        this.alliance = alliance;
+        this.kingPosition = BitBoardUtils.firstSquare(board.getBitBoard(alliance, PieceType.KING));
+        this.checkers = board.calculateAttackers(this.kingPosition, alliance.opposite());
+        this.evasionMask = calculateEvasionMask();
+        this.pinRays = new long[BoardUtils.NUM_TILES];
+        this.pinnedPieces = board.calculatePinnedPieces(alliance, this.pinRays);
+    }
+
+    public Collection<Move> generateLegalMoves(final Collection<Move> pseudoLegalMoves) {
+        final List<Move> legalMoves = new ArrayList<>(pseudoLegalMoves.size());
+        for (final Move move : pseudoLegalMoves) {
+            if (isLegal(move)) {
+                legalMoves.add(move);
+            }
+        }
+        return legalMoves;
+    }
+
+    public boolean hasLegalMove() {
+        final long ownOccupancy = this.board.getOccupancy(this.alliance);
+        long kingTargets = BitBoardUtils.KING_ATTACKS[this.kingPosition] & ~ownOccupancy;
+        while (kingTargets != BitBoardUtils.EMPTY_BOARD) {
+            if (isKingMoveLegal(this.kingPosition, BitBoardUtils.firstSquare(kingTargets))) {
+                return true;
+            }
+            kingTargets = BitBoardUtils.clearFirstSquare(kingTargets);
+        }
+        if (BitBoardUtils.bitCount(this.checkers) > 1) {
+            return false;
+        }
+        long pieces = ownOccupancy & ~BitBoardUtils.squareMask(this.kingPosition);
+        while (pieces != BitBoardUtils.EMPTY_BOARD) {
+            final int from = BitBoardUtils.firstSquare(pieces);
+            long destinations = calculateDestinations(from, ownOccupancy) & this.evasionMask;
+            if (BitBoardUtils.isSet(this.pinnedPieces, from)) {
+                destinations &= this.pinRays[from];
+            }
+            if (destinations != BitBoardUtils.EMPTY_BOARD || isEnPassantAvailable(from)) {
+                return true;
+            }
+            pieces = BitBoardUtils.clearFirstSquare(pieces);
+        }
+        return false;
+    }
+
+    public boolean isInCheck() {
+        return this.checkers != BitBoardUtils.EMPTY_BOARD;
+    }
+
+    public long getCheckers() {
+        return this.checkers;
+    }
+
+    public long getPinnedPieces() {
+        return this.pinnedPieces;
+    }
+
+    public boolean isLegal(final Move move) {
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+        if (from == this.kingPosition) {
+            return isKingMoveLegal(from, to);
+        }
+        if (move instanceof PawnEnPassantAttack) {
+            return isEnPassantLegal(from, to, move.getAttackedPiece().getPiecePosition());
+        }
+        if (BitBoardUtils.bitCount(this.checkers) > 1) {
+            return false;
+        }
+        if (!BitBoardUtils.isSet(this.evasionMask, to)) {
+            return false;
+        }
+        return !BitBoardUtils.isSet(this.pinnedPieces, from) || BitBoardUtils.isSet(this.pinRays[from], to);
+    }
+
+    private boolean isKingMoveLegal(final int from,
+                                    final int to) {
+        final long occupancy = this.board.getOccupancy() & ~BitBoardUtils.squareMask(from);
+        return this.board.calculateAttackers(to, this.alliance.opposite(), occupancy) == BitBoardUtils.EMPTY_BOARD;
+    }
+
+    private boolean isEnPassantLegal(final int from,
+                                     final int to,
+                                     final int capturedPosition) {
+        final long occupancy = (this.board.getOccupancy() & ~BitBoardUtils.squareMask(from) &
+                ~BitBoardUtils.squareMask(capturedPosition)) | BitBoardUtils.squareMask(to);
+        final long attackers = this.board.calculateAttackers(this.kingPosition, this.alliance.opposite(), occupancy);
+        return (attackers & ~BitBoardUtils.squareMask(capturedPosition)) == BitBoardUtils.EMPTY_BOARD;
+    }
+
+    private long calculateDestinations(final int from,
+                                       final long ownOccupancy) {
+        final Piece piece = this.board.getPiece(from);
+        if (piece.getPieceType() != PieceType.PAWN) {
+            return this.board.getAttacks(from) & ~ownOccupancy;
+        }
+        final long occupancy = this.board.getOccupancy();
+        long destinations = BitBoardUtils.pawnAttacks(this.alliance, from) & this.board.getOccupancy(this.alliance.opposite());
+        final int[] pushTargets = BitBoardUtils.pawnPushTargets(this.alliance, from);
+        if (pushTargets.length > 0 && !BitBoardUtils.isSet(occupancy, pushTargets[0])) {
+            destinations |= BitBoardUtils.squareMask(pushTargets[0]);
+            if (pushTargets.length > 1 && piece.isFirstMove() && !BitBoardUtils.isSet(occupancy, pushTargets[1])) {
+                destinations |= BitBoardUtils.squareMask(pushTargets[1]);
+            }
+        }
+        return destinations;
+    }
+
+    private boolean isEnPassantAvailable(final int from) {
+        final int enPassantSquare = this.board.getEnPassantSquare();
+        return this.board.getEnPassantPawn() != null &&
+                this.board.getPiece(from).getPieceType() == PieceType.PAWN &&
+                BitBoardUtils.isSet(BitBoardUtils.pawnAttacks(this.alliance, from), enPassantSquare) &&
+                isEnPassantLegal(from, enPassantSquare, this.board.getEnPassantPawn().getPiecePosition());
+    }
+
+    private long calculateEvasionMask() {
+        if (this.checkers == BitBoardUtils.EMPTY_BOARD) {
+            return BitBoardUtils.FULL_BOARD;
+        }
+        final int checkerPosition = BitBoardUtils.firstSquare(this.checkers);
+        final Piece checker = this.board.getPiece(checkerPosition);
+        if (checker.getPieceType() == PieceType.KNIGHT || checker.getPieceType() == PieceType.PAWN) {
+            return this.checkers;
+        }
+        return this.checkers | MagicBitBoards.squaresBetween(this.kingPosition, checkerPosition);
+    }
+}
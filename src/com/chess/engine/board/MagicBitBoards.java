@@ -0,0 +1,181 @@
+package com.chess.engine.board;
+
+public enum MagicBitBoards {
+
+    INSTANCE;
+
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+    private static final long[] ROOK_MAGIC_NUMBERS = {
+            0x0A80001080244000L, 0x8440049000200240L, 0xA080200080100008L, 0x4300086205001000L,
+            0x66002004700A0008L, 0x3200081001040200L, 0x3080008002000100L, 0x0E00004081082204L,
+            0x1400800080304000L, 0x1020401000200040L, 0x4000801000802000L, 0x0002000C20401200L,
+            0x0020800400800800L, 0x0080800400800200L, 0x4004001008020481L, 0x0140800040800100L,
+            0x00C0828000204000L, 0x0040010020408901L, 0x0841010040200010L, 0x240012000A420021L,
+            0x1200808004000800L, 0x0002010100040008L, 0x1402030100020004L, 0x02D0820000840041L,
+            0x2000400080208004L, 0x21A0008080400028L, 0x0546004200188020L, 0x0430002100110009L,
+            0x0A08000404004020L, 0x8002010180800400L, 0x4608014400029008L, 0x0209010200008044L,
+            0x4040400081800220L, 0x1002400081802000L, 0x8B00200080801000L, 0x0408000880801002L,
+            0x4108020040400400L, 0x2002000802001004L, 0x4420080204001001L, 0x1068059242000104L,
+            0x0400804002218000L, 0x02002010044A4000L, 0x8020020400101000L, 0x00021200200A0040L,
+            0x0042000804120020L, 0x0006004510420008L, 0x0A28810208440050L, 0x0108290040860004L,
+            0x0000800440002480L, 0x0020008040006180L, 0x8082500260008480L, 0x4008021000800880L,
+            0x0000100408010100L, 0x0200800200040080L, 0x4080021008410400L, 0x0100801100006080L,
+            0x2080008020401101L, 0x2000110022008842L, 0x2841002000440811L, 0x2300100104A10009L,
+            0x0002000410200902L, 0x000100020804000BL, 0x0212000084014802L, 0x000020430085240AL
+    };
+    private static final long[] BISHOP_MAGIC_NUMBERS = {
+            0x0020200102202040L, 0x0010110264004020L, 0x0010140060400004L, 0x0004440080800800L,
+            0x1041104004002820L, 0x0001042241020012L, 0x1446020120880011L, 0x22004400410820C0L,
+            0x0800088881080200L, 0x4028900451205200L, 0x6000040808850800L, 0x20484804A3008000L,
+            0x0600540308010020L, 0x1B10410420040010L, 0x8410104410080A40L, 0x01000E0201510840L,
+            0x4010402021420080L, 0x4050004810210049L, 0x8010094104002041L, 0x2094411804110100L,
+            0x00050100904020E0L, 0x0040400808080400L, 0x0022020088040200L, 0x0000300044020820L,
+            0xA002400020040400L, 0x0001040020282208L, 0x0014480004080110L, 0x2020080001004008L,
+            0x0880820044010400L, 0x8208424002013000L, 0x7001110004308804L, 0x2002704081040200L,
+            0x14380230510A6020L, 0x0088622202080800L, 0x0601044040080480L, 0x50E0200803090104L,
+            0x2905060400020102L, 0x7001006600A10100L, 0x80610B0408822600L, 0x0004010850020050L,
+            0x400C8804C1001080L, 0x0184110430008281L, 0x802042005000090AL, 0x620200C208000081L,
+            0x000020020C043080L, 0x8802721001000208L, 0x0810320204002440L, 0x0011080111403110L,
+            0x6400821003600208L, 0x08C4404424608000L, 0x8800302402088240L, 0x8000001020884004L,
+            0x140C401002022020L, 0x80A1092108008034L, 0x20080248020C2002L, 0x4008020084050100L,
+            0x20006206100C0282L, 0x0304010101412008L, 0x822008402084100AL, 0x2109240000842404L,
+            0x8000001040050110L, 0x002102200202020DL, 0x0818201344190400L, 0x1002102C02808208L
+    };
+    private static final Magic[] ROOK_MAGICS = initMagics(ROOK_DIRECTIONS, ROOK_MAGIC_NUMBERS);
+    private static final Magic[] BISHOP_MAGICS = initMagics(BISHOP_DIRECTIONS, BISHOP_MAGIC_NUMBERS);
+    private static final long[][] SQUARES_BETWEEN = initSquaresBetween();
+
+    public static long rookAttacks(final int coordinate,
+                                   final long occupancy) {
+        return ROOK_MAGICS[coordinate].attacks(occupancy);
+    }
+
+    public static long bishopAttacks(final int coordinate,
+                                     final long occupancy) {
+        return BISHOP_MAGICS[coordinate].attacks(occupancy);
+    }
+
+    public static long queenAttacks(final int coordinate,
+                                    final long occupancy) {
+        return rookAttacks(coordinate, occupancy) | bishopAttacks(coordinate, occupancy);
+    }
+
+    public static long squaresBetween(final int from,
+                                      final int to) {
+        return SQUARES_BETWEEN[from][to];
+    }
+
+    private static long[][] initSquaresBetween() {
+        final long[][] squaresBetween = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+        for (int from = 0; from < BoardUtils.NUM_TILES; from++) {
+            for (int to = 0; to < BoardUtils.NUM_TILES; to++) {
+                final long toMask = BitBoardUtils.squareMask(to);
+                final long fromMask = BitBoardUtils.squareMask(from);
+                if ((rookAttacks(from, BitBoardUtils.EMPTY_BOARD) & toMask) != 0) {
+                    squaresBetween[from][to] = rookAttacks(from, toMask) & rookAttacks(to, fromMask);
+                } else if ((bishopAttacks(from, BitBoardUtils.EMPTY_BOARD) & toMask) != 0) {
+                    squaresBetween[from][to] = bishopAttacks(from, toMask) & bishopAttacks(to, fromMask);
+                }
+            }
+        }
+        return squaresBetween;
+    }
+
+    private static Magic[] initMagics(final int[][] directions,
+                                      final long[] magicNumbers) {
+        final Magic[] magics = new Magic[BoardUtils.NUM_TILES];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            magics[i] = createMagic(i, directions, magicNumbers[i]);
+        }
+        return magics;
+    }
+
+    private static Magic createMagic(final int coordinate,
+                                     final int[][] directions,
+                                     final long magicNumber) {
+        final long mask = calculateRelevantOccupancyMask(coordinate, directions);
+        final int relevantBits = BitBoardUtils.bitCount(mask);
+        final int shift = Long.SIZE - relevantBits;
+        final long[] attacks = new long[1 << relevantBits];
+        final boolean[] used = new boolean[attacks.length];
+        long occupancy = BitBoardUtils.EMPTY_BOARD;
+        do {
+            final int index = (int) ((occupancy * magicNumber) >>> shift);
+            final long rayAttacks = calculateRayAttacks(coordinate, occupancy, directions);
+            if (used[index] && attacks[index] != rayAttacks) {
+                throw new RuntimeException("Bad magic number for tile " + coordinate);
+            }
+            used[index] = true;
+            attacks[index] = rayAttacks;
+            occupancy = (occupancy - mask) & mask;
+        } while (occupancy != BitBoardUtils.EMPTY_BOARD);
+        return new Magic(mask, magicNumber, shift, attacks);
+    }
+
+    private static long calculateRelevantOccupancyMask(final int coordinate,
+                                                       final int[][] directions) {
+        final int row = coordinate / BoardUtils.NUM_TILES_PER_ROW;
+        final int column = coordinate % BoardUtils.NUM_TILES_PER_ROW;
+        long mask = BitBoardUtils.EMPTY_BOARD;
+        for (final int[] direction : directions) {
+            int r = row + direction[0];
+            int c = column + direction[1];
+            while (isOnBoard(r + direction[0], c + direction[1])) {
+                mask |= BitBoardUtils.squareMask(r * BoardUtils.NUM_TILES_PER_ROW + c);
+                r += direction[0];
+                c += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long calculateRayAttacks(final int coordinate,
+                                            final long occupancy,
+                                            final int[][] directions) {
+        final int row = coordinate / BoardUtils.NUM_TILES_PER_ROW;
+        final int column = coordinate % BoardUtils.NUM_TILES_PER_ROW;
+        long attacks = BitBoardUtils.EMPTY_BOARD;
+        for (final int[] direction : directions) {
+            int r = row + direction[0];
+            int c = column + direction[1];
+            while (isOnBoard(r, c)) {
+                final long square = BitBoardUtils.squareMask(r * BoardUtils.NUM_TILES_PER_ROW + c);
+                attacks |= square;
+                if ((occupancy & square) != 0) {
+                    break;
+                }
+                r += direction[0];
+                c += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int row,
+                                     final int column) {
+        return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW &&
+                column >= 0 && column < BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static final class Magic {
+        private final long mask;
+        private final long magic;
+        private final int shift;
+        private final long[] attacks;
+
+        Magic(final long mask,
+              final long magic,
+              final int shift,
+              final long[] attacks) {
+            this.mask = mask;
+            this.magic = magic;
+            this.shift = shift;
+            this.attacks = attacks;
+        }
+
+        long attacks(final long occupancy) {
+            return this.attacks[(int) (((occupancy & this.mask) * this.magic) >>> this.shift)];
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.chess.engine.board;
 import com.chess.engine.board.Board.Builder;
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.pieces.PieceUtils;
 import com.chess.engine.pieces.Rook;
 
 public abstract class Move {
@@ -82,15 +84,52 @@ public abstract class Move {
     }
 
     public Board execute() {
-        final Board.Builder builder = new Builder();
-        this.board.currentPlayer().getActivePieces().stream().filter(piece -> !this.movedPiece.equals(piece)).forEach(builder::setPiece);
-        this.board.currentPlayer().getOpponent().getActivePieces().forEach(builder::setPiece);
+        final Board.Builder builder = new Builder(this.board);
+        builder.clearSquare(this.movedPiece.getPiecePosition());
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
         builder.setMoveTransition(this);
+        builder.setPieceKey(calculatePieceKey());
+        builder.setMaterialScore(calculateMaterialScore());
+        builder.setPawnKey(calculatePawnKey());
         return builder.build();
     }
 
+    long calculatePieceKey() {
+        long pieceKey = this.board.getPieceKey() ^ Zobrist.sideKey() ^
+                Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.movedPiece), getCurrentCoordinate()) ^
+                Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.movedPiece), this.destinationCoordinate);
+        final Piece capturedPiece = this.board.getPiece(this.destinationCoordinate);
+        if (capturedPiece != null) {
+            pieceKey ^= Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(capturedPiece), this.destinationCoordinate);
+        }
+        return pieceKey;
+    }
+
+    int calculateMaterialScore() {
+        int materialScore = this.board.getMaterialScore() -
+                PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.movedPiece), getCurrentCoordinate()) +
+                PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.movedPiece), this.destinationCoordinate);
+        final Piece capturedPiece = this.board.getPiece(this.destinationCoordinate);
+        if (capturedPiece != null) {
+            materialScore -= PieceSquareTable.score(BitBoardUtils.bitBoardIndex(capturedPiece), this.destinationCoordinate);
+        }
+        return materialScore;
+    }
+
+    long calculatePawnKey() {
+        long pawnKey = this.board.getPawnKey();
+        if (this.movedPiece.getPieceType().isPawn()) {
+            pawnKey ^= Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.movedPiece), getCurrentCoordinate()) ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.movedPiece), this.destinationCoordinate);
+        }
+        final Piece capturedPiece = this.board.getPiece(this.destinationCoordinate);
+        if (capturedPiece != null && capturedPiece.getPieceType().isPawn()) {
+            pawnKey ^= Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(capturedPiece), this.destinationCoordinate);
+        }
+        return pawnKey;
+    }
+
     public Board undo() {
         final Board.Builder builder = new Builder();
         this.board.getAllPieces().stream().forEach(builder::setPiece);
@@ -125,23 +164,35 @@ public abstract class Move {
 
         @Override
         public int hashCode() {
-            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode());
+            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode()) +
+                    (961 * promotionPiece.getPieceType().ordinal());
         }
 
         @Override
         public boolean equals(final Object other) {
-            return this == other || other instanceof PawnPromotion && (super.equals(other));
+            return this == other || other instanceof PawnPromotion && (super.equals(other)) &&
+                    this.promotionPiece.getPieceType() == ((PawnPromotion) other).getPromotionPiece().getPieceType();
+        }
+
+        public Piece getPromotionPiece() {
+            return this.promotionPiece;
         }
 
         @Override
         public Board execute() {
             final Board pawnMovedBoard = this.decoratedMove.execute();
-            final Board.Builder builder = new Builder();
-            pawnMovedBoard.currentPlayer().getActivePieces().stream().filter(piece -> !this.promotedPawn.equals(piece)).forEach(builder::setPiece);
-            pawnMovedBoard.currentPlayer().getOpponent().getActivePieces().forEach(builder::setPiece);
+            final Board.Builder builder = new Builder(pawnMovedBoard);
             builder.setPiece(this.promotionPiece.movePiece(this));
-            builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+            builder.setMoveMaker(pawnMovedBoard.getMoveMaker());
             builder.setMoveTransition(this);
+            builder.setPieceKey(pawnMovedBoard.getPieceKey() ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.promotedPawn), this.destinationCoordinate) ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.promotionPiece), this.destinationCoordinate));
+            builder.setMaterialScore(pawnMovedBoard.getMaterialScore() -
+                    PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.promotedPawn), this.destinationCoordinate) +
+                    PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.promotionPiece), this.destinationCoordinate));
+            builder.setPawnKey(pawnMovedBoard.getPawnKey() ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.promotedPawn), this.destinationCoordinate));
             return builder.build();
         }
 
@@ -269,12 +320,17 @@ public abstract class Move {
 
         @Override
         public Board execute() {
-            final Board.Builder builder = new Builder();
-            this.board.currentPlayer().getActivePieces().stream().filter(piece -> !this.movedPiece.equals(piece)).forEach(builder::setPiece);
-            this.board.currentPlayer().getOpponent().getActivePieces().stream().filter(piece -> !piece.equals(this.getAttackedPiece())).forEach(builder::setPiece);
+            final Board.Builder builder = new Builder(this.board);
+            builder.clearSquare(this.movedPiece.getPiecePosition());
+            builder.clearSquare(getAttackedPiece().getPiecePosition());
             builder.setPiece(this.movedPiece.movePiece(this));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
             builder.setMoveTransition(this);
+            builder.setPieceKey(calculatePieceKey() ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(getAttackedPiece()), getAttackedPiece().getPiecePosition()));
+            builder.setMaterialScore(calculateMaterialScore() - PieceSquareTable.score(getAttackedPiece()));
+            builder.setPawnKey(calculatePawnKey() ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(getAttackedPiece()), getAttackedPiece().getPiecePosition()));
             return builder.build();
         }
 
@@ -305,14 +361,16 @@ public abstract class Move {
 
         @Override
         public Board execute() {
-            final Board.Builder builder = new Builder();
-            this.board.currentPlayer().getActivePieces().stream().filter(piece -> !this.movedPiece.equals(piece)).forEach(builder::setPiece);
-            this.board.currentPlayer().getOpponent().getActivePieces().forEach(builder::setPiece);
+            final Board.Builder builder = new Builder(this.board);
+            builder.clearSquare(this.movedPiece.getPiecePosition());
             final Pawn movedPawn = (Pawn)this.movedPiece.movePiece(this);
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
             builder.setMoveTransition(this);
+            builder.setPieceKey(calculatePieceKey());
+            builder.setMaterialScore(calculateMaterialScore());
+            builder.setPawnKey(calculatePawnKey());
             return builder.build();
         }
 
@@ -353,17 +411,21 @@ public abstract class Move {
 
         @Override
         public Board execute() {
-            final Board.Builder builder = new Builder();
-            for (final Piece piece : this.board.getAllPieces()) {
-                if (!this.movedPiece.equals(piece) && !this.castleRook.equals(piece)) {
-                    builder.setPiece(piece);
-                }
-            }
+            final Board.Builder builder = new Builder(this.board);
+            builder.clearSquare(this.movedPiece.getPiecePosition());
+            builder.clearSquare(this.castleRookStart);
             builder.setPiece(this.movedPiece.movePiece(this));
-            //calling movePiece here doesn't work, we need to explicitly create a new Rook
-            builder.setPiece(new Rook(this.castleRook.getPieceAlliance(), this.castleRookDestination, false));
+            //calling movePiece here doesn't work, we need to explicitly look up the moved Rook
+            builder.setPiece(PieceUtils.INSTANCE.getRook(this.castleRook.getPieceAlliance(), this.castleRookDestination, false));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
             builder.setMoveTransition(this);
+            builder.setPieceKey(calculatePieceKey() ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.castleRook), this.castleRookStart) ^
+                    Zobrist.pieceKey(BitBoardUtils.bitBoardIndex(this.castleRook), this.castleRookDestination));
+            builder.setMaterialScore(calculateMaterialScore() -
+                    PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.castleRook), this.castleRookStart) +
+                    PieceSquareTable.score(BitBoardUtils.bitBoardIndex(this.castleRook), this.castleRookDestination));
+            builder.setPawnKey(this.board.getPawnKey());
             return builder.build();
         }
 
@@ -539,13 +601,16 @@ public abstract class Move {
         public static Move createMove(final Board board,
                                       final int currentCoordinate,
                                       final int destinationCoordinate) {
-            for (final Move move : board.getAllLegalMoves()) {
-                if (move.getCurrentCoordinate() == currentCoordinate &&
-                        move.getDestinationCoordinate() == destinationCoordinate) {
-                    return move;
-                }
-            }
-            return NULL_MOVE;
+            final Move move = board.getLegalMove(currentCoordinate, destinationCoordinate, null);
+            return move != null ? move : NULL_MOVE;
+        }
+
+        public static Move createMove(final Board board,
+                                      final int currentCoordinate,
+                                      final int destinationCoordinate,
+                                      final PieceType promotionType) {
+            final Move move = board.getLegalMove(currentCoordinate, destinationCoordinate, promotionType);
+            return move != null ? move : NULL_MOVE;
         }
     }
 }
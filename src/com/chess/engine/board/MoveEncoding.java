@@ -0,0 +1,135 @@
+package com.chess.engine.board;
+
+import com.chess.engine.board.Move.KingSideCastleMove;
+import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.board.Move.PawnEnPassantAttack;
+import com.chess.engine.board.Move.PawnJump;
+import com.chess.engine.board.Move.PawnPromotion;
+import com.chess.engine.board.Move.QueenSideCastleMove;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public enum MoveEncoding {
+
+    INSTANCE;
+
+    public static final int NULL_MOVE = 0;
+
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int KING_SIDE_CASTLE = 2;
+    public static final int QUEEN_SIDE_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int FLAGS_MASK = 0xF;
+    private static final int PIECE_TYPE_MASK = 0x7;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAGS_SHIFT = 12;
+    private static final int MOVED_SHIFT = 16;
+    private static final int CAPTURED_SHIFT = 19;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    public static int createMove(final int from,
+                                 final int to,
+                                 final PieceType movedPieceType,
+                                 final PieceType capturedPieceType,
+                                 final int flags) {
+        return from |
+                (to << TO_SHIFT) |
+                (flags << FLAGS_SHIFT) |
+                (movedPieceType.ordinal() << MOVED_SHIFT) |
+                ((capturedPieceType == null ? 0 : capturedPieceType.ordinal() + 1) << CAPTURED_SHIFT);
+    }
+
+    public static int promotionFlags(final PieceType promotionType,
+                                     final boolean isCapture) {
+        return PROMOTION | (promotionType.ordinal() - PieceType.KNIGHT.ordinal()) | (isCapture ? CAPTURE : 0);
+    }
+
+    public static int getFrom(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTo(final int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getFlags(final int move) {
+        return (move >>> FLAGS_SHIFT) & FLAGS_MASK;
+    }
+
+    public static PieceType getMovedPieceType(final int move) {
+        return PIECE_TYPES[(move >>> MOVED_SHIFT) & PIECE_TYPE_MASK];
+    }
+
+    public static PieceType getCapturedPieceType(final int move) {
+        final int captured = (move >>> CAPTURED_SHIFT) & PIECE_TYPE_MASK;
+        return captured == 0 ? null : PIECE_TYPES[captured - 1];
+    }
+
+    public static PieceType getPromotionType(final int move) {
+        return PIECE_TYPES[(getFlags(move) & 0x3) + PieceType.KNIGHT.ordinal()];
+    }
+
+    public static boolean isCapture(final int move) {
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlags(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastle(final int move) {
+        final int flags = getFlags(move);
+        return flags == KING_SIDE_CASTLE || flags == QUEEN_SIDE_CASTLE;
+    }
+
+    public static int encode(final Move move) {
+        if (move == MoveFactory.getNullMove()) {
+            return NULL_MOVE;
+        }
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+        final PieceType movedPieceType = move.getMovedPiece().getPieceType();
+        final Piece capturedPiece = move instanceof PawnEnPassantAttack ?
+                move.getAttackedPiece() : move.getBoard().getPiece(to);
+        final PieceType capturedPieceType = capturedPiece == null ? null : capturedPiece.getPieceType();
+        final int flags;
+        if (move instanceof PawnPromotion) {
+            flags = promotionFlags(((PawnPromotion) move).getPromotionPiece().getPieceType(), capturedPiece != null);
+        } else if (move instanceof KingSideCastleMove) {
+            flags = KING_SIDE_CASTLE;
+        } else if (move instanceof QueenSideCastleMove) {
+            flags = QUEEN_SIDE_CASTLE;
+        } else if (move instanceof PawnEnPassantAttack) {
+            flags = EN_PASSANT;
+        } else if (move instanceof PawnJump) {
+            flags = PAWN_JUMP;
+        } else {
+            flags = capturedPiece != null ? CAPTURE : QUIET;
+        }
+        return createMove(from, to, movedPieceType, capturedPieceType, flags);
+    }
+
+    public static Move decode(final Board board,
+                              final int move) {
+        if (move == NULL_MOVE) {
+            return MoveFactory.getNullMove();
+        }
+        final Move legalMove = board.getLegalMove(getFrom(move), getTo(move),
+                isPromotion(move) ? getPromotionType(move) : null);
+        return legalMove != null ? legalMove : MoveFactory.getNullMove();
+    }
+
+    public static String toString(final int move) {
+        if (move == NULL_MOVE) {
+            return "Null Move";
+        }
+        final String text = BoardUtils.INSTANCE.getPositionAtCoordinate(getFrom(move)) +
+                BoardUtils.INSTANCE.getPositionAtCoordinate(getTo(move));
+        return isPromotion(move) ? text + getPromotionType(move).toString().toLowerCase() : text;
+    }
+}
@@ -0,0 +1,94 @@
+package com.chess.engine.board;
+
+public final class MoveList {
+    public static final int MAX_MOVES = 256;
+
+    private final int[] moves;
+    private final int[] scores;
+    private int size;
+
+    public MoveList() {
+        this.moves = new int[MAX_MOVES];
+        this.scores = new int[MAX_MOVES];
+        this.size = 0;
+    }
+
+    public void add(final int move) {
+        this.moves[this.size] = move;
+        this.scores[this.size] = 0;
+        this.size++;
+    }
+
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    public void set(final int index,
+                    final int move) {
+        this.moves[index] = move;
+    }
+
+    public int getScore(final int index) {
+        return this.scores[index];
+    }
+
+    public void setScore(final int index,
+                         final int score) {
+        this.scores[index] = score;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public void truncate(final int size) {
+        this.size = size;
+    }
+
+    public boolean contains(final int move) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int selectNext(final int index) {
+        int bestIndex = index;
+        for (int i = index + 1; i < this.size; i++) {
+            if (this.scores[i] > this.scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex != index) {
+            final int move = this.moves[index];
+            final int score = this.scores[index];
+            this.moves[index] = this.moves[bestIndex];
+            this.scores[index] = this.scores[bestIndex];
+            this.moves[bestIndex] = move;
+            this.scores[bestIndex] = score;
+        }
+        return this.moves[index];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(MoveEncoding.toString(this.moves[i]));
+        }
+        return builder.append("]").toString();
+    }
+}
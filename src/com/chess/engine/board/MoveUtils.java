@@ -1,16 +1,15 @@
 package com.chess.engine.board;
 
-import static com.chess.engine.board.Move.*;
-
 public enum MoveUtils {
     INSTANCE;
 
-    public static int exchangeScore(final Move move) {
-        if (move == MoveFactory.getNullMove()) {
-            return 1;
+    public static int exchangeScore(final GameHistory history) {
+        int score = 1;
+        for (final int move : BoardUtils.lastNMoves(history, history.size())) {
+            if (MoveEncoding.isCapture(move)) {
+                score *= 5;
+            }
         }
-        return move.isAttack() ?
-                5 * exchangeScore(move.getBoard().getTransitionMove()) :
-                exchangeScore(move.getBoard().getTransitionMove());
+        return score;
     }
 }
@@ -0,0 +1,53 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.pieces.PieceUtils;
+
+public enum PieceSquareTable {
+
+    INSTANCE;
+
+    private static final int[][] SCORES = initScores();
+
+    private static int[][] initScores() {
+        final int[][] scores = new int[BitBoardUtils.NUM_BIT_BOARDS][BoardUtils.NUM_TILES];
+        for (final Alliance alliance : Alliance.values()) {
+            final int sign = alliance.isWhite() ? 1 : -1;
+            for (final PieceType pieceType : PieceType.values()) {
+                for (int coordinate = 0; coordinate < BoardUtils.NUM_TILES; coordinate++) {
+                    final Piece piece = PieceUtils.INSTANCE.getPiece(pieceType, alliance, coordinate, false);
+                    final int middleGame = piece.getPieceValue() + piece.locationBonus();
+                    final int endGame = piece.getPieceValue() + (pieceType.isKing() ?
+                            alliance.kingEndGameBonus(coordinate) : piece.locationBonus());
+                    scores[BitBoardUtils.bitBoardIndex(alliance, pieceType)][coordinate] =
+                            pack(sign * middleGame, sign * endGame);
+                }
+            }
+        }
+        return scores;
+    }
+
+    public static int score(final int bitBoardIndex,
+                            final int coordinate) {
+        return SCORES[bitBoardIndex][coordinate];
+    }
+
+    public static int score(final Piece piece) {
+        return SCORES[BitBoardUtils.bitBoardIndex(piece)][piece.getPiecePosition()];
+    }
+
+    public static int pack(final int middleGame,
+                           final int endGame) {
+        return (endGame << 16) + middleGame;
+    }
+
+    public static int middleGame(final int score) {
+        return (short) score;
+    }
+
+    public static int endGame(final int score) {
+        return (score + 0x8000) >> 16;
+    }
+}
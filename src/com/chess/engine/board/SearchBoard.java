@@ -0,0 +1,481 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.MoveEncoding.*;
+
+public final class SearchBoard implements BitBoardPosition {
+
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+
+    private static final int INITIAL_STACK_SIZE = 128;
+    private static final int[] CASTLING_MASKS = initCastlingMasks();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private final int[] squares;
+    private final long[] pieceBitBoards;
+    private final long[] occupancies;
+    private final MoveList evasions;
+    private Alliance moveMaker;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int castledFlags;
+    private long zobristKey;
+    private int materialScore;
+    private long pawnKey;
+    private int ply;
+    private int[] moveStack;
+    private int[] stateStack;
+    private long[] keyStack;
+
+    private SearchBoard() {
+        this.squares = new int[BoardUtils.NUM_TILES];
+        Arrays.fill(this.squares, NO_PIECE);
+        this.pieceBitBoards = new long[BitBoardUtils.NUM_BIT_BOARDS];
+        this.occupancies = new long[Alliance.values().length];
+        this.evasions = new MoveList();
+        this.enPassantSquare = NO_SQUARE;
+        this.moveStack = new int[INITIAL_STACK_SIZE];
+        this.stateStack = new int[INITIAL_STACK_SIZE];
+        this.keyStack = new long[INITIAL_STACK_SIZE];
+    }
+
+    public static SearchBoard fromBoard(final Board board) {
+        final SearchBoard searchBoard = new SearchBoard();
+        for (final Piece piece : board.getAllPieces()) {
+            searchBoard.putPiece(BitBoardUtils.bitBoardIndex(piece), piece.getPiecePosition());
+        }
+        searchBoard.moveMaker = board.getMoveMaker();
+        searchBoard.castlingRights = board.getCastlingRights();
+        searchBoard.castledFlags = (board.isCastled(Alliance.WHITE) ? castledFlag(Alliance.WHITE) : 0) |
+                (board.isCastled(Alliance.BLACK) ? castledFlag(Alliance.BLACK) : 0);
+        searchBoard.enPassantSquare = board.getEnPassantSquare();
+        searchBoard.zobristKey = board.getZobristKey();
+        return searchBoard;
+    }
+
+    public Board toBoard() {
+        final Board.Builder builder = new Board.Builder();
+        final Piece[] pieces = new Piece[BoardUtils.NUM_TILES];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            if (this.squares[i] != NO_PIECE) {
+                pieces[i] = createPiece(this.squares[i], i);
+                builder.setPiece(pieces[i]);
+            }
+        }
+        if (this.enPassantSquare != NO_SQUARE) {
+            final Alliance jumpingAlliance = this.moveMaker.opposite();
+            builder.setEnPassantPawn((Pawn) pieces[this.enPassantSquare +
+                    (jumpingAlliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW)]);
+        }
+        builder.setMoveMaker(this.moveMaker);
+        return builder.build();
+    }
+
+    @Override
+    public Alliance getMoveMaker() {
+        return this.moveMaker;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    @Override
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    @Override
+    public int getMaterialScore() {
+        return this.materialScore;
+    }
+
+    @Override
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+
+    public int getPiece(final int coordinate) {
+        return this.squares[coordinate];
+    }
+
+    @Override
+    public long getBitBoard(final Alliance alliance,
+                            final PieceType pieceType) {
+        return this.pieceBitBoards[BitBoardUtils.bitBoardIndex(alliance, pieceType)];
+    }
+
+    @Override
+    public long getOccupancy(final Alliance alliance) {
+        return this.occupancies[alliance.ordinal()];
+    }
+
+    @Override
+    public long getOccupancy() {
+        return this.occupancies[0] | this.occupancies[1];
+    }
+
+    @Override
+    public boolean isCastled(final Alliance alliance) {
+        return (this.castledFlags & castledFlag(alliance)) != 0;
+    }
+
+    public boolean isInCheck() {
+        return isInCheck(this.moveMaker);
+    }
+
+    @Override
+    public boolean isInCheck(final Alliance alliance) {
+        return isSquareAttacked(BitBoardUtils.firstSquare(getBitBoard(alliance, PieceType.KING)), alliance.opposite());
+    }
+
+    @Override
+    public boolean isInCheckMate() {
+        if (!isInCheck()) {
+            return false;
+        }
+        generateLegalMoves(this.evasions);
+        return this.evasions.isEmpty();
+    }
+
+    public boolean isSquareAttacked(final int coordinate,
+                                    final Alliance attackingAlliance) {
+        final long occupancy = getOccupancy();
+        final long queens = getBitBoard(attackingAlliance, PieceType.QUEEN);
+        return (BitBoardUtils.pawnAttacks(attackingAlliance.opposite(), coordinate) & getBitBoard(attackingAlliance, PieceType.PAWN)) != 0 ||
+                (BitBoardUtils.KNIGHT_ATTACKS[coordinate] & getBitBoard(attackingAlliance, PieceType.KNIGHT)) != 0 ||
+                (BitBoardUtils.KING_ATTACKS[coordinate] & getBitBoard(attackingAlliance, PieceType.KING)) != 0 ||
+                (MagicBitBoards.rookAttacks(coordinate, occupancy) & (getBitBoard(attackingAlliance, PieceType.ROOK) | queens)) != 0 ||
+                (MagicBitBoards.bishopAttacks(coordinate, occupancy) & (getBitBoard(attackingAlliance, PieceType.BISHOP) | queens)) != 0;
+    }
+
+    public void generateLegalMoves(final MoveList moves) {
+        moves.clear();
+        generatePseudoLegalMoves(moves);
+        final Alliance alliance = this.moveMaker;
+        int numLegalMoves = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            makeMove(move);
+            if (!isInCheck(alliance)) {
+                moves.set(numLegalMoves++, move);
+            }
+            unmakeMove();
+        }
+        moves.truncate(numLegalMoves);
+    }
+
+    public int getLastMove(final int pliesAgo) {
+        return pliesAgo < this.ply ? this.moveStack[this.ply - 1 - pliesAgo] : NULL_MOVE;
+    }
+
+    public void makeMove(final int move) {
+        pushState(move);
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final int flags = getFlags(move);
+        final Alliance alliance = this.moveMaker;
+        this.zobristKey ^= Zobrist.castlingKey(this.castlingRights);
+        if (this.enPassantSquare != NO_SQUARE) {
+            this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare % BoardUtils.NUM_TILES_PER_ROW);
+        }
+        if (flags == EN_PASSANT) {
+            removePiece(to - (alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW));
+        } else if (isCapture(move)) {
+            removePiece(to);
+        }
+        final int movedPiece = removePiece(from);
+        if (isPromotion(move)) {
+            putPiece(BitBoardUtils.bitBoardIndex(alliance, getPromotionType(move)), to);
+        } else {
+            putPiece(movedPiece, to);
+        }
+        if (flags == KING_SIDE_CASTLE) {
+            putPiece(removePiece(from + 3), from + 1);
+            this.castledFlags |= castledFlag(alliance);
+        } else if (flags == QUEEN_SIDE_CASTLE) {
+            putPiece(removePiece(from - 4), from - 1);
+            this.castledFlags |= castledFlag(alliance);
+        }
+        this.enPassantSquare = flags == PAWN_JUMP ? (from + to) / 2 : NO_SQUARE;
+        this.castlingRights &= CASTLING_MASKS[from] & CASTLING_MASKS[to];
+        this.zobristKey ^= Zobrist.castlingKey(this.castlingRights);
+        if (this.enPassantSquare != NO_SQUARE) {
+            this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare % BoardUtils.NUM_TILES_PER_ROW);
+        }
+        this.moveMaker = alliance.opposite();
+        this.zobristKey ^= Zobrist.sideKey();
+    }
+
+    public void unmakeMove() {
+        this.ply--;
+        final int move = this.moveStack[this.ply];
+        final int state = this.stateStack[this.ply];
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final int flags = getFlags(move);
+        final Alliance alliance = this.moveMaker.opposite();
+        final int movedPiece = removePiece(to);
+        putPiece(isPromotion(move) ? BitBoardUtils.bitBoardIndex(alliance, PieceType.PAWN) : movedPiece, from);
+        if (flags == KING_SIDE_CASTLE) {
+            putPiece(removePiece(from + 1), from + 3);
+        } else if (flags == QUEEN_SIDE_CASTLE) {
+            putPiece(removePiece(from - 1), from - 4);
+        } else if (flags == EN_PASSANT) {
+            putPiece(BitBoardUtils.bitBoardIndex(alliance.opposite(), PieceType.PAWN),
+                    to - (alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW));
+        } else if (isCapture(move)) {
+            putPiece(BitBoardUtils.bitBoardIndex(alliance.opposite(), getCapturedPieceType(move)), to);
+        }
+        this.moveMaker = alliance;
+        this.castlingRights = state & 0xF;
+        this.enPassantSquare = ((state >>> 4) & 0x7F) - 1;
+        this.castledFlags = (state >>> 11) & 0x3;
+        this.zobristKey = this.keyStack[this.ply];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final int piece = this.squares[i];
+            String tileText = "-";
+            if (piece != NO_PIECE) {
+                tileText = getPieceType(piece).toString();
+                tileText = piece < BitBoardUtils.NUM_PIECE_TYPES ? tileText : tileText.toLowerCase();
+            }
+            builder.append(String.format("%3s", tileText));
+            if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private void generatePseudoLegalMoves(final MoveList moves) {
+        final Alliance alliance = this.moveMaker;
+        final long ownOccupancy = getOccupancy(alliance);
+        final long occupancy = getOccupancy();
+        generatePawnMoves(moves, alliance, getOccupancy(alliance.opposite()), occupancy);
+        long knights = getBitBoard(alliance, PieceType.KNIGHT);
+        while (knights != 0) {
+            final int from = BitBoardUtils.firstSquare(knights);
+            addMoves(moves, from, BitBoardUtils.KNIGHT_ATTACKS[from] & ~ownOccupancy);
+            knights = BitBoardUtils.clearFirstSquare(knights);
+        }
+        long bishops = getBitBoard(alliance, PieceType.BISHOP) | getBitBoard(alliance, PieceType.QUEEN);
+        while (bishops != 0) {
+            final int from = BitBoardUtils.firstSquare(bishops);
+            addMoves(moves, from, MagicBitBoards.bishopAttacks(from, occupancy) & ~ownOccupancy);
+            bishops = BitBoardUtils.clearFirstSquare(bishops);
+        }
+        long rooks = getBitBoard(alliance, PieceType.ROOK) | getBitBoard(alliance, PieceType.QUEEN);
+        while (rooks != 0) {
+            final int from = BitBoardUtils.firstSquare(rooks);
+            addMoves(moves, from, MagicBitBoards.rookAttacks(from, occupancy) & ~ownOccupancy);
+            rooks = BitBoardUtils.clearFirstSquare(rooks);
+        }
+        final int kingPosition = BitBoardUtils.firstSquare(getBitBoard(alliance, PieceType.KING));
+        addMoves(moves, kingPosition, BitBoardUtils.KING_ATTACKS[kingPosition] & ~ownOccupancy);
+        generateCastleMoves(moves, alliance, kingPosition, occupancy);
+    }
+
+    private void generatePawnMoves(final MoveList moves,
+                                   final Alliance alliance,
+                                   final long opponentOccupancy,
+                                   final long occupancy) {
+        final int forward = alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        final int startRow = alliance.isWhite() ? 6 : 1;
+        final int promotionRow = alliance.isWhite() ? 0 : 7;
+        long pawns = getBitBoard(alliance, PieceType.PAWN);
+        while (pawns != 0) {
+            final int from = BitBoardUtils.firstSquare(pawns);
+            final int to = from + forward;
+            if (!BitBoardUtils.isSet(occupancy, to)) {
+                if (to / BoardUtils.NUM_TILES_PER_ROW == promotionRow) {
+                    addPromotions(moves, from, to, null);
+                } else {
+                    moves.add(createMove(from, to, PieceType.PAWN, null, QUIET));
+                    final int jump = to + forward;
+                    if (from / BoardUtils.NUM_TILES_PER_ROW == startRow && !BitBoardUtils.isSet(occupancy, jump)) {
+                        moves.add(createMove(from, jump, PieceType.PAWN, null, PAWN_JUMP));
+                    }
+                }
+            }
+            final long attacks = BitBoardUtils.pawnAttacks(alliance, from);
+            long captures = attacks & opponentOccupancy;
+            while (captures != 0) {
+                final int capture = BitBoardUtils.firstSquare(captures);
+                final PieceType capturedPieceType = getPieceType(this.squares[capture]);
+                if (capture / BoardUtils.NUM_TILES_PER_ROW == promotionRow) {
+                    addPromotions(moves, from, capture, capturedPieceType);
+                } else {
+                    moves.add(createMove(from, capture, PieceType.PAWN, capturedPieceType, CAPTURE));
+                }
+                captures = BitBoardUtils.clearFirstSquare(captures);
+            }
+            if (this.enPassantSquare != NO_SQUARE && BitBoardUtils.isSet(attacks, this.enPassantSquare)) {
+                moves.add(createMove(from, this.enPassantSquare, PieceType.PAWN, PieceType.PAWN, EN_PASSANT));
+            }
+            pawns = BitBoardUtils.clearFirstSquare(pawns);
+        }
+    }
+
+    private void generateCastleMoves(final MoveList moves,
+                                     final Alliance alliance,
+                                     final int kingPosition,
+                                     final long occupancy) {
+        final int kingSide = alliance.isWhite() ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSide = alliance.isWhite() ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        if ((this.castlingRights & (kingSide | queenSide)) == 0 || isInCheck(alliance)) {
+            return;
+        }
+        final Alliance opponent = alliance.opposite();
+        if ((this.castlingRights & kingSide) != 0 &&
+                !BitBoardUtils.isSet(occupancy, kingPosition + 1) &&
+                !BitBoardUtils.isSet(occupancy, kingPosition + 2) &&
+                !isSquareAttacked(kingPosition + 1, opponent) &&
+                !isSquareAttacked(kingPosition + 2, opponent)) {
+            moves.add(createMove(kingPosition, kingPosition + 2, PieceType.KING, null, KING_SIDE_CASTLE));
+        }
+        if ((this.castlingRights & queenSide) != 0 &&
+                !BitBoardUtils.isSet(occupancy, kingPosition - 1) &&
+                !BitBoardUtils.isSet(occupancy, kingPosition - 2) &&
+                !BitBoardUtils.isSet(occupancy, kingPosition - 3) &&
+                !isSquareAttacked(kingPosition - 1, opponent) &&
+                !isSquareAttacked(kingPosition - 2, opponent)) {
+            moves.add(createMove(kingPosition, kingPosition - 2, PieceType.KING, null, QUEEN_SIDE_CASTLE));
+        }
+    }
+
+    private void addMoves(final MoveList moves,
+                          final int from,
+                          final long destinations) {
+        final PieceType movedPieceType = getPieceType(this.squares[from]);
+        long remaining = destinations;
+        while (remaining != 0) {
+            final int to = BitBoardUtils.firstSquare(remaining);
+            final int capturedPiece = this.squares[to];
+            moves.add(capturedPiece == NO_PIECE ?
+                    createMove(from, to, movedPieceType, null, QUIET) :
+                    createMove(from, to, movedPieceType, getPieceType(capturedPiece), CAPTURE));
+            remaining = BitBoardUtils.clearFirstSquare(remaining);
+        }
+    }
+
+    private static void addPromotions(final MoveList moves,
+                                      final int from,
+                                      final int to,
+                                      final PieceType capturedPieceType) {
+        final boolean isCapture = capturedPieceType != null;
+        moves.add(createMove(from, to, PieceType.PAWN, capturedPieceType, promotionFlags(PieceType.QUEEN, isCapture)));
+        moves.add(createMove(from, to, PieceType.PAWN, capturedPieceType, promotionFlags(PieceType.ROOK, isCapture)));
+        moves.add(createMove(from, to, PieceType.PAWN, capturedPieceType, promotionFlags(PieceType.BISHOP, isCapture)));
+        moves.add(createMove(from, to, PieceType.PAWN, capturedPieceType, promotionFlags(PieceType.KNIGHT, isCapture)));
+    }
+
+    private static PieceType getPieceType(final int piece) {
+        return PIECE_TYPES[piece % BitBoardUtils.NUM_PIECE_TYPES];
+    }
+
+    private void pushState(final int move) {
+        if (this.ply == this.moveStack.length) {
+            this.moveStack = Arrays.copyOf(this.moveStack, this.ply * 2);
+            this.stateStack = Arrays.copyOf(this.stateStack, this.ply * 2);
+            this.keyStack = Arrays.copyOf(this.keyStack, this.ply * 2);
+        }
+        this.moveStack[this.ply] = move;
+        this.stateStack[this.ply] = this.castlingRights |
+                ((this.enPassantSquare + 1) << 4) |
+                (this.castledFlags << 11);
+        this.keyStack[this.ply] = this.zobristKey;
+        this.ply++;
+    }
+
+    private void putPiece(final int piece,
+                          final int coordinate) {
+        final long mask = BitBoardUtils.squareMask(coordinate);
+        this.squares[coordinate] = piece;
+        this.pieceBitBoards[piece] |= mask;
+        this.occupancies[piece / BitBoardUtils.NUM_PIECE_TYPES] |= mask;
+        this.zobristKey ^= Zobrist.pieceKey(piece, coordinate);
+        this.materialScore += PieceSquareTable.score(piece, coordinate);
+        if (getPieceType(piece) == PieceType.PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(piece, coordinate);
+        }
+    }
+
+    private int removePiece(final int coordinate) {
+        final long mask = ~BitBoardUtils.squareMask(coordinate);
+        final int piece = this.squares[coordinate];
+        this.squares[coordinate] = NO_PIECE;
+        this.pieceBitBoards[piece] &= mask;
+        this.occupancies[piece / BitBoardUtils.NUM_PIECE_TYPES] &= mask;
+        this.zobristKey ^= Zobrist.pieceKey(piece, coordinate);
+        this.materialScore -= PieceSquareTable.score(piece, coordinate);
+        if (getPieceType(piece) == PieceType.PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(piece, coordinate);
+        }
+        return piece;
+    }
+
+    private Piece createPiece(final int piece,
+                              final int coordinate) {
+        final Alliance alliance = Alliance.values()[piece / BitBoardUtils.NUM_PIECE_TYPES];
+        final int kingSide = alliance.isWhite() ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSide = alliance.isWhite() ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        switch (getPieceType(piece)) {
+            case PAWN:
+                return PieceUtils.INSTANCE.getPawn(alliance, coordinate,
+                        coordinate / BoardUtils.NUM_TILES_PER_ROW == (alliance.isWhite() ? 6 : 1));
+            case KNIGHT:
+                return PieceUtils.INSTANCE.getKnight(alliance, coordinate, true);
+            case BISHOP:
+                return PieceUtils.INSTANCE.getBishop(alliance, coordinate, true);
+            case ROOK:
+                final boolean isKingSideRook = coordinate == (alliance.isWhite() ? 63 : 7) &&
+                        (this.castlingRights & kingSide) != 0;
+                final boolean isQueenSideRook = coordinate == (alliance.isWhite() ? 56 : 0) &&
+                        (this.castlingRights & queenSide) != 0;
+                return PieceUtils.INSTANCE.getRook(alliance, coordinate, isKingSideRook || isQueenSideRook);
+            case QUEEN:
+                return PieceUtils.INSTANCE.getQueen(alliance, coordinate, true);
+            default:
+                final boolean kingSideCapable = (this.castlingRights & kingSide) != 0;
+                final boolean queenSideCapable = (this.castlingRights & queenSide) != 0;
+                return PieceUtils.INSTANCE.getKing(alliance, coordinate, kingSideCapable || queenSideCapable, isCastled(alliance),
+                        kingSideCapable, queenSideCapable);
+        }
+    }
+
+    private static int castledFlag(final Alliance alliance) {
+        return 1 << alliance.ordinal();
+    }
+
+    private static int[] initCastlingMasks() {
+        final int[] castlingMasks = new int[BoardUtils.NUM_TILES];
+        Arrays.fill(castlingMasks, WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        castlingMasks[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        castlingMasks[63] &= ~WHITE_KING_SIDE;
+        castlingMasks[56] &= ~WHITE_QUEEN_SIDE;
+        castlingMasks[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        castlingMasks[7] &= ~BLACK_KING_SIDE;
+        castlingMasks[0] &= ~BLACK_QUEEN_SIDE;
+        return castlingMasks;
+    }
+}
@@ -0,0 +1,34 @@
+package com.chess.engine.board;
+
+public final class SearchStack {
+
+    public static final int MAX_PLY = 128;
+
+    private static final ThreadLocal<SearchStack> THREAD_STACKS = ThreadLocal.withInitial(SearchStack::new);
+
+    private final MoveList[] moveLists;
+
+    private SearchStack() {
+        this.moveLists = new MoveList[MAX_PLY];
+        for (int i = 0; i < MAX_PLY; i++) {
+            this.moveLists[i] = new MoveList();
+        }
+    }
+
+    public static SearchStack get() {
+        return THREAD_STACKS.get();
+    }
+
+    public MoveList getMoveList(final int ply) {
+        if (ply < 0 || ply >= MAX_PLY) {
+            throw new IllegalArgumentException("Ply out of range: " + ply);
+        }
+        return this.moveLists[ply];
+    }
+
+    public MoveList generateLegalMoves(final SearchBoard board) {
+        final MoveList moves = getMoveList(board.getPly());
+        board.generateLegalMoves(moves);
+        return moves;
+    }
+}
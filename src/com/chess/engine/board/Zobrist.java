@@ -0,0 +1,42 @@
+package com.chess.engine.board;
+
+import java.util.Random;
+
+public enum Zobrist {
+
+    INSTANCE;
+
+    private static final Random RANDOM = new Random(0x5DEECE66DL);
+    private static final long[][] PIECE_KEYS = initKeys(BitBoardUtils.NUM_BIT_BOARDS, BoardUtils.NUM_TILES);
+    private static final long[] CASTLING_KEYS = initKeys(1, 16)[0];
+    private static final long[] EN_PASSANT_KEYS = initKeys(1, BoardUtils.NUM_TILES_PER_ROW)[0];
+    private static final long SIDE_KEY = RANDOM.nextLong();
+
+    private static long[][] initKeys(final int rows,
+                                     final int columns) {
+        final long[][] keys = new long[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                keys[i][j] = RANDOM.nextLong();
+            }
+        }
+        return keys;
+    }
+
+    public static long pieceKey(final int bitBoardIndex,
+                                final int coordinate) {
+        return PIECE_KEYS[bitBoardIndex][coordinate];
+    }
+
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(final int column) {
+        return EN_PASSANT_KEYS[column];
+    }
+
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+}
@@ -1,10 +1,16 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.MajorAttackMove;
+import com.chess.engine.board.Move.MajorMove;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public abstract class Piece {
     final PieceType pieceType;
@@ -48,7 +54,30 @@ public abstract class Piece {
 
     public abstract Piece movePiece(Move move);
 
-    public abstract Collection<Move> calculateLegalMoves(final Board board);
+    public abstract void generateMoves(final Board board,
+                                       final List<Move> moves);
+
+    public Collection<Move> calculateLegalMoves(final Board board) {
+        final List<Move> legalMoves = new ArrayList<>();
+        generateMoves(board, legalMoves);
+        return Collections.unmodifiableList(legalMoves);
+    }
+
+    void addMovesFromAttacks(final Board board,
+                             final long attacks,
+                             final List<Move> moves) {
+        long destinations = attacks & ~board.getOccupancy(this.pieceAlliance);
+        while (destinations != BitBoardUtils.EMPTY_BOARD) {
+            final int candidateDestinationCoordinate = BitBoardUtils.firstSquare(destinations);
+            if (!board.isTileOccupied(candidateDestinationCoordinate)) {
+                moves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                moves.add(new MajorAttackMove(board, this, candidateDestinationCoordinate,
+                        board.getPiece(candidateDestinationCoordinate)));
+            }
+            destinations = BitBoardUtils.clearFirstSquare(destinations);
+        }
+    }
 
     @Override
     public boolean equals(final Object other) {
@@ -2,85 +2,105 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.BoardUtils;
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Table;
+import com.chess.engine.pieces.Piece.PieceType;
 
-enum PieceUtils {
+public enum PieceUtils {
     INSTANCE;
 
-    private final Table<Alliance, Integer, Queen> ALL_POSSIBLE_QUEENS = PieceUtils.createAllPossibleMovesQueens();
-    private final Table<Alliance, Integer, Rook> ALL_POSSIBLE_ROOKS = PieceUtils.createAllPossibleMovesROKS();
-    private final Table<Alliance, Integer, Knight> ALL_POSSIBLE_KNIGHTS = PieceUtils.createAllPossibleMovesKnights();
-    private final Table<Alliance, Integer, Bishop> ALL_POSSIBLE_BISHOPS = PieceUtils.createAllPossibleMovesBishops();
-    private final Table<Alliance, Integer, Pawn> ALL_POSSIBLE_PAWNS = PieceUtils.createAllPossibleMovesPawns();
+    private static final int FIRST_MOVE = 1;
+    private static final int CASTLED = 2;
+    private static final int KING_SIDE_CAPABLE = 4;
+    private static final int QUEEN_SIDE_CAPABLE = 8;
+    private static final int NUM_FLAG_STATES = 16;
+    private static final int NUM_ALLIANCES = 2;
 
-    Pawn getMovedPawn(final Alliance alliance, final int destinationCoordinate) {
-        return ALL_POSSIBLE_PAWNS.get(alliance, destinationCoordinate);
+    private final Piece[] ALL_POSSIBLE_PIECES = PieceUtils.createAllPossiblePieces();
+
+    public Piece getPiece(final PieceType pieceType,
+                          final Alliance alliance,
+                          final int position,
+                          final boolean isFirstMove) {
+        return ALL_POSSIBLE_PIECES[index(pieceType, alliance, position, isFirstMove ? FIRST_MOVE : 0)];
     }
 
-    Knight getMovedKnight(final Alliance alliance, final int destinationCoordinate) {
-        return ALL_POSSIBLE_KNIGHTS.get(alliance, destinationCoordinate);
+    public Pawn getPawn(final Alliance alliance,
+                        final int position,
+                        final boolean isFirstMove) {
+        return (Pawn) getPiece(PieceType.PAWN, alliance, position, isFirstMove);
     }
 
-    Bishop getMovedBishop(final Alliance alliance, final int destinationCoordinate) {
-        return ALL_POSSIBLE_BISHOPS.get(alliance, destinationCoordinate);
+    public Knight getKnight(final Alliance alliance,
+                            final int position,
+                            final boolean isFirstMove) {
+        return (Knight) getPiece(PieceType.KNIGHT, alliance, position, isFirstMove);
     }
 
-    Rook getMovedRook(final Alliance alliance, final int destinationCoordinate) {
-        return ALL_POSSIBLE_ROOKS.get(alliance, destinationCoordinate);
+    public Bishop getBishop(final Alliance alliance,
+                            final int position,
+                            final boolean isFirstMove) {
+        return (Bishop) getPiece(PieceType.BISHOP, alliance, position, isFirstMove);
     }
 
-    Queen getMovedQueen(final Alliance alliance, final int destinationCoordinate) {
-        return ALL_POSSIBLE_QUEENS.get(alliance, destinationCoordinate);
+    public Rook getRook(final Alliance alliance,
+                        final int position,
+                        final boolean isFirstMove) {
+        return (Rook) getPiece(PieceType.ROOK, alliance, position, isFirstMove);
     }
 
-    private static Table<Alliance, Integer, Pawn> createAllPossibleMovesPawns() {
-        final ImmutableTable.Builder<Alliance, Integer, Pawn> pieces = ImmutableTable.builder();
-        for (final Alliance alliance : Alliance.values()) {
-            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-                pieces.put(alliance, i, new Pawn(alliance, i, false));
-            }
-        }
-        return pieces.build();
+    public Queen getQueen(final Alliance alliance,
+                          final int position,
+                          final boolean isFirstMove) {
+        return (Queen) getPiece(PieceType.QUEEN, alliance, position, isFirstMove);
     }
 
-    private static Table<Alliance, Integer, Knight> createAllPossibleMovesKnights() {
-        final ImmutableTable.Builder<Alliance, Integer, Knight> pieces = ImmutableTable.builder();
-        for (final Alliance alliance : Alliance.values()) {
-            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-                pieces.put(alliance, i, new Knight(alliance, i, false));
-            }
-        }
-        return pieces.build();
+    public King getKing(final Alliance alliance,
+                        final int position,
+                        final boolean isFirstMove,
+                        final boolean isCastled,
+                        final boolean kingSideCastleCapable,
+                        final boolean queenSideCastleCapable) {
+        return (King) ALL_POSSIBLE_PIECES[index(PieceType.KING, alliance, position,
+                kingFlags(isFirstMove, isCastled, kingSideCastleCapable, queenSideCastleCapable))];
     }
 
-    private static Table<Alliance, Integer, Bishop> createAllPossibleMovesBishops() {
-        final ImmutableTable.Builder<Alliance, Integer, Bishop> pieces = ImmutableTable.builder();
-        for (final Alliance alliance : Alliance.values()) {
-            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-                pieces.put(alliance, i, new Bishop(alliance, i, false));
-            }
-        }
-        return pieces.build();
+    private static int index(final PieceType pieceType,
+                             final Alliance alliance,
+                             final int position,
+                             final int flags) {
+        return (((pieceType.ordinal() * NUM_ALLIANCES) + alliance.ordinal()) * BoardUtils.NUM_TILES + position) *
+                NUM_FLAG_STATES + flags;
     }
 
-    private static Table<Alliance, Integer, Rook> createAllPossibleMovesROKS() {
-        final ImmutableTable.Builder<Alliance, Integer, Rook> pieces = ImmutableTable.builder();
-        for (final Alliance alliance : Alliance.values()) {
-            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-                pieces.put(alliance, i, new Rook(alliance, i, false));
-            }
-        }
-        return pieces.build();
+    private static int kingFlags(final boolean isFirstMove,
+                                 final boolean isCastled,
+                                 final boolean kingSideCastleCapable,
+                                 final boolean queenSideCastleCapable) {
+        return (isFirstMove ? FIRST_MOVE : 0) |
+                (isCastled ? CASTLED : 0) |
+                (kingSideCastleCapable ? KING_SIDE_CAPABLE : 0) |
+                (queenSideCastleCapable ? QUEEN_SIDE_CAPABLE : 0);
     }
 
-    private static Table<Alliance, Integer, Queen> createAllPossibleMovesQueens() {
-        final ImmutableTable.Builder<Alliance, Integer, Queen> pieces = ImmutableTable.builder();
+    private static Piece[] createAllPossiblePieces() {
+        final Piece[] pieces = new Piece[PieceType.values().length * NUM_ALLIANCES * BoardUtils.NUM_TILES *
+                NUM_FLAG_STATES];
         for (final Alliance alliance : Alliance.values()) {
             for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-                pieces.put(alliance, i, new Queen(alliance, i, false));
+                for (final boolean isFirstMove : new boolean[] {true, false}) {
+                    final int flags = isFirstMove ? FIRST_MOVE : 0;
+                    pieces[index(PieceType.PAWN, alliance, i, flags)] = new Pawn(alliance, i, isFirstMove);
+                    pieces[index(PieceType.KNIGHT, alliance, i, flags)] = new Knight(alliance, i, isFirstMove);
+                    pieces[index(PieceType.BISHOP, alliance, i, flags)] = new Bishop(alliance, i, isFirstMove);
+                    pieces[index(PieceType.ROOK, alliance, i, flags)] = new Rook(alliance, i, isFirstMove);
+                    pieces[index(PieceType.QUEEN, alliance, i, flags)] = new Queen(alliance, i, isFirstMove);
+                }
+                for (int flags = 0; flags < NUM_FLAG_STATES; flags++) {
+                    pieces[index(PieceType.KING, alliance, i, flags)] = new King(alliance, i,
+                            (flags & FIRST_MOVE) != 0, (flags & CASTLED) != 0,
+                            (flags & KING_SIDE_CAPABLE) != 0, (flags & QUEEN_SIDE_CAPABLE) != 0);
+                }
             }
         }
-        return pieces.build();
+        return pieces;
     }
 }
@@ -2,7 +2,6 @@ package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
-import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Move.KingSideCastleMove;
 import com.chess.engine.board.Move.QueenSideCastleMove;
@@ -22,40 +21,27 @@ public final class BlackPlayer extends Player {
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals,
-                                                    final Collection<Move> opponentLegals) {
+    protected Collection<Move> calculateKingCastles() {
         if (this.isInCheck() || this.isCastled() || !(this.isKingSideCastleCapable() || this.isQueenSideCastleCapable())) {
             return Collections.emptyList();
         }
         final List<Move> kingCastles = new ArrayList<>();
-        if (this.playerKing.isFirstMove() && this.playerKing.getPiecePosition() == 4 && !this.isInCheck) {
-            //blacks king side castle
-            if (this.board.getPiece(5) == null && this.board.getPiece(6) == null) {
-                final Piece kingSideRook = this.board.getPiece(7);
-                if (kingSideRook != null && kingSideRook.isFirstMove() &&
-                        Player.calculateAttacksOnTile(5, opponentLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(6, opponentLegals).isEmpty() &&
-                        kingSideRook.getPieceType().isRook()) {
-                    if (!BoardUtils.isKingPawnTrap(this.board, this.playerKing, 12)) {
-                        kingCastles.add(
-                                new KingSideCastleMove(this.board, this.playerKing, 6, (Rook) kingSideRook, kingSideRook.getPiecePosition(), 5));
-                    }
-                }
-            }
-            //blacks queen side castle
-            if (this.board.getPiece(1) == null && this.board.getPiece(2) == null &&
-                    this.board.getPiece(3) == null) {
-                final Piece queenSideRook = this.board.getPiece(0);
-                if (queenSideRook != null && queenSideRook.isFirstMove() &&
-                        Player.calculateAttacksOnTile(2, opponentLegals).isEmpty() &&
-                        Player.calculateAttacksOnTile(3, opponentLegals).isEmpty() &&
-                        queenSideRook.getPieceType().isRook()) {
-                    if (!BoardUtils.isKingPawnTrap(this.board, this.playerKing, 12)) {
-                        kingCastles.add(
-                                new QueenSideCastleMove(this.board, this.playerKing, 2, (Rook) queenSideRook, queenSideRook.getPiecePosition(), 3));
-                    }
-                }
-            }
+        final int castlingRights = this.board.getCastlingRights();
+        //blacks king side castle
+        if ((castlingRights & Board.BLACK_KING_SIDE) != 0 &&
+                this.board.getPiece(5) == null && this.board.getPiece(6) == null &&
+                !this.board.isSquareAttacked(5, Alliance.WHITE) && !this.board.isSquareAttacked(6, Alliance.WHITE)) {
+            final Piece kingSideRook = this.board.getPiece(7);
+            kingCastles.add(
+                    new KingSideCastleMove(this.board, this.playerKing, 6, (Rook) kingSideRook, kingSideRook.getPiecePosition(), 5));
+        }
+        //blacks queen side castle
+        if ((castlingRights & Board.BLACK_QUEEN_SIDE) != 0 &&
+                this.board.getPiece(1) == null && this.board.getPiece(2) == null && this.board.getPiece(3) == null &&
+                !this.board.isSquareAttacked(3, Alliance.WHITE) && !this.board.isSquareAttacked(2, Alliance.WHITE)) {
+            final Piece queenSideRook = this.board.getPiece(0);
+            kingCastles.add(
+                    new QueenSideCastleMove(this.board, this.playerKing, 2, (Rook) queenSideRook, queenSideRook.getPiecePosition(), 3));
         }
         return Collections.unmodifiableList(kingCastles);
     }
@@ -2,32 +2,38 @@ package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.LegalMoveGenerator;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.PawnPromotion;
 import com.chess.engine.board.MoveStatus;
 import com.chess.engine.board.MoveTransition;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.collectingAndThen;
 
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
     protected final Collection<Move> legalMoves;
     protected final boolean isInCheck;
+    private volatile Int2ObjectMap<Move> legalMoveIndex;
 
     Player(final Board board,
            final Collection<Move> playerLegals,
            final Collection<Move> opponentLegals) {
         this.board = board;
         this.playerKing = establishKing();
-        this.isInCheck = !calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentLegals).isEmpty();
-        playerLegals.addAll(calculateKingCastles(playerLegals, opponentLegals));
-        this.legalMoves = Collections.unmodifiableCollection(playerLegals);
+        this.isInCheck = board.isInCheck(getAlliance());
+        final Collection<Move> pseudoLegals = new ArrayList<>(playerLegals);
+        pseudoLegals.addAll(calculateKingCastles());
+        this.legalMoves = Collections.unmodifiableCollection(
+                new LegalMoveGenerator(board, getAlliance()).generateLegalMoves(pseudoLegals));
     }
 
     public boolean isInCheck() {
@@ -66,33 +72,74 @@ public abstract class Player {
     }
 
     private boolean hasEscapeMoves() {
-        return this.legalMoves.stream()
-                .anyMatch(move -> makeMove(move)
-                        .getMoveStatus().isDone());
+        return !this.legalMoves.isEmpty();
     }
 
     public Collection<Move> getLegalMoves() {
         return this.legalMoves;
     }
 
-    static Collection<Move> calculateAttacksOnTile(final int tile,
-                                                   final Collection<Move> moves) {
-        return moves.stream()
-                .filter(move -> move.getDestinationCoordinate() == tile)
-                .collect(collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    public Move getLegalMove(final int currentCoordinate,
+                             final int destinationCoordinate) {
+        return getLegalMove(currentCoordinate, destinationCoordinate, null);
     }
 
-    public MoveTransition makeMove(final Move move) {
-        if (!this.legalMoves.contains(move)) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.ILLEGAL_MOVE);
+    public Move getLegalMove(final int currentCoordinate,
+                             final int destinationCoordinate,
+                             final PieceType promotionType) {
+        return getLegalMoveIndex().get(moveKey(currentCoordinate, destinationCoordinate, promotionType));
+    }
+
+    private Int2ObjectMap<Move> getLegalMoveIndex() {
+        Int2ObjectMap<Move> moveIndex = this.legalMoveIndex;
+        if (moveIndex == null) {
+            moveIndex = new Int2ObjectOpenHashMap<>(this.legalMoves.size() * 2);
+            for (final Move move : this.legalMoves) {
+                final int key = moveKey(move.getCurrentCoordinate(), move.getDestinationCoordinate(), null);
+                if (!moveIndex.containsKey(key)) {
+                    moveIndex.put(key, move);
+                }
+                if (move instanceof PawnPromotion) {
+                    moveIndex.put(moveKey(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                            promotionType(move)), move);
+                }
+            }
+            this.legalMoveIndex = moveIndex;
         }
-        final Board transitionedBoard = move.execute();
-        if (transitionedBoard.currentPlayer().getOpponent().isInCheck()) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
+        return moveIndex;
+    }
+
+    private static int moveKey(final int currentCoordinate,
+                               final int destinationCoordinate,
+                               final PieceType promotionType) {
+        return currentCoordinate |
+                (destinationCoordinate << 6) |
+                ((promotionType == null ? 0 : promotionType.ordinal() + 1) << 12);
+    }
+
+    private static PieceType promotionType(final Move move) {
+        return move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionPiece().getPieceType() : null;
+    }
+
+    public MoveTransition makeMove(final Move move) {
+        if (!isLegalMove(move)) {
+            return new MoveTransition(this.board, this.board, move,
+                    isPseudoLegal(move) ? MoveStatus.LEAVES_PLAYER_IN_CHECK : MoveStatus.ILLEGAL_MOVE);
         }
-        return transitionedBoard.currentPlayer().getOpponent().isInCheck() ?
-                new MoveTransition(this.board, this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK) :
-                new MoveTransition(this.board, transitionedBoard, move, MoveStatus.DONE);
+        return new MoveTransition(this.board, move.execute(), move, MoveStatus.DONE);
+    }
+
+    private boolean isLegalMove(final Move move) {
+        final Move legalMove = getLegalMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                promotionType(move));
+        return legalMove != null && legalMove.equals(move);
+    }
+
+    private boolean isPseudoLegal(final Move move) {
+        final Piece movedPiece = move.getMovedPiece();
+        return movedPiece != null &&
+                movedPiece.getPieceAlliance() == getAlliance() &&
+                movedPiece.calculateLegalMoves(this.board).contains(move);
     }
 
     public MoveTransition unMakeMove(final Move move) {
@@ -105,6 +152,5 @@ public abstract class Player {
 
     public abstract Player getOpponent();
 
-    protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-                                                             Collection<Move> opponentLegals);
+    protected abstract Collection<Move> calculateKingCastles();
 }
@@ -2,7 +2,6 @@ package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
-import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
 import com.chess.engine.board.Move.KingSideCastleMove;
 import com.chess.engine.board.Move.QueenSideCastleMove;
@@ -22,38 +21,25 @@ public final class WhitePlayer extends Player {
     }
 
     @Override
-    protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals,
-                                                    final Collection<Move> opponentLegals) {
+    protected Collection<Move> calculateKingCastles() {
         if (this.isInCheck() || this.isCastled() || !(this.isKingSideCastleCapable() || this.isQueenSideCastleCapable())) {
             return Collections.emptyList();
         }
         final List<Move> kingCastles = new ArrayList<>();
-        if (this.playerKing.isFirstMove() && this.playerKing.getPiecePosition() == 60 && !this.isInCheck()) {
-            //whites king side castle
-            if (this.board.getPiece(61) == null && this.board.getPiece(62) == null) {
-                final Piece kingSideRook = this.board.getPiece(63);
-                if (kingSideRook != null && kingSideRook.isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(61, opponentLegals).isEmpty() && Player.calculateAttacksOnTile(62, opponentLegals).isEmpty() &&
-                            kingSideRook.getPieceType().isRook()) {
-                        if (!BoardUtils.isKingPawnTrap(this.board, this.playerKing, 52)) {
-                            kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 62, (Rook) kingSideRook, kingSideRook.getPiecePosition(), 61));
-                        }
-                    }
-                }
-            }
-            //whites queen side castle
-            if (this.board.getPiece(59) == null && this.board.getPiece(58) == null &&
-                    this.board.getPiece(57) == null) {
-                final Piece queenSideRook = this.board.getPiece(56);
-                if (queenSideRook != null && queenSideRook.isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(58, opponentLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(59, opponentLegals).isEmpty() && queenSideRook.getPieceType().isRook()) {
-                        if (!BoardUtils.isKingPawnTrap(this.board, this.playerKing, 52)) {
-                            kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 58, (Rook) queenSideRook, queenSideRook.getPiecePosition(), 59));
-                        }
-                    }
-                }
-            }
+        final int castlingRights = this.board.getCastlingRights();
+        //whites king side castle
+        if ((castlingRights & Board.WHITE_KING_SIDE) != 0 &&
+                this.board.getPiece(61) == null && this.board.getPiece(62) == null &&
+                !this.board.isSquareAttacked(61, Alliance.BLACK) && !this.board.isSquareAttacked(62, Alliance.BLACK)) {
+            final Piece kingSideRook = this.board.getPiece(63);
+            kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 62, (Rook) kingSideRook, kingSideRook.getPiecePosition(), 61));
+        }
+        //whites queen side castle
+        if ((castlingRights & Board.WHITE_QUEEN_SIDE) != 0 &&
+                this.board.getPiece(59) == null && this.board.getPiece(58) == null && this.board.getPiece(57) == null &&
+                !this.board.isSquareAttacked(59, Alliance.BLACK) && !this.board.isSquareAttacked(58, Alliance.BLACK)) {
+            final Piece queenSideRook = this.board.getPiece(56);
+            kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 58, (Rook) queenSideRook, queenSideRook.getPiecePosition(), 59));
         }
         return Collections.unmodifiableList(kingCastles);
     }
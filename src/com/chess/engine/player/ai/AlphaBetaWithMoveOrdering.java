@@ -120,7 +120,7 @@ public class AlphaBetaWithMoveOrdering extends Observable implements MoveStrateg
                    final int lowest) {
         if (depth == 0 || BoardUtils.isEndGame(board)) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
         }
         int currentHighest = highest;
         for (final Move move : this.moveSorter.sort((board.currentPlayer().getLegalMoves()))) {
@@ -143,7 +143,7 @@ public class AlphaBetaWithMoveOrdering extends Observable implements MoveStrateg
                    final int lowest) {
         if (depth == 0 || BoardUtils.isEndGame(board)) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
         }
         int currentLowest = lowest;
         for (final Move move : this.moveSorter.sort((board.currentPlayer().getLegalMoves()))) {
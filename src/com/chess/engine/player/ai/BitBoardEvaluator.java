@@ -0,0 +1,193 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.BitBoardUtils;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.MagicBitBoards;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.ai.KingSafetyAnalyser.KingDistance;
+
+import static com.chess.engine.player.ai.StandardBoardEvaluator.*;
+
+public final class BitBoardEvaluator implements BoardEvaluator {
+    private static final int POSITIONAL_BOUND = 300;
+    static final int ACTIVITY_BOUND = POSITIONAL_BOUND + CHECK_BONUS;
+    private static final BitBoardEvaluator INSTANCE = new BitBoardEvaluator();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private BitBoardEvaluator() {
+
+    }
+
+    public static BitBoardEvaluator get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int evaluate(final Board board,
+                        final int depth) {
+        return evaluatePosition(board, depth);
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board,
+                        final int depth,
+                        final int alpha,
+                        final int beta) {
+        return evaluatePosition(board, depth);
+    }
+
+    private static int evaluatePosition(final BitBoardPosition position,
+                                        final int depth) {
+        return activity(position, depth) + pieceEvaluations(position) + pawnStructure(position);
+    }
+
+    static int activity(final BitBoardPosition position,
+                        final int depth) {
+        final int whiteMobility = mobility(position, Alliance.WHITE);
+        final int blackMobility = mobility(position, Alliance.BLACK);
+        final int activity = score(position, Alliance.WHITE, whiteMobility, blackMobility) -
+                score(position, Alliance.BLACK, blackMobility, whiteMobility);
+        return kingThreats(position, depth) + Math.max(-POSITIONAL_BOUND, Math.min(POSITIONAL_BOUND, activity));
+    }
+
+    private static int score(final BitBoardPosition position,
+                             final Alliance alliance,
+                             final int mobility,
+                             final int opponentMobility) {
+        return MOBILITY_MULTIPLIER * mobilityRatio(mobility, opponentMobility) +
+                attacks(position, alliance) +
+                castled(position, alliance) +
+                kingSafety(position, alliance);
+    }
+
+    static int mobility(final BitBoardPosition position,
+                        final Alliance alliance) {
+        final long occupancy = position.getOccupancy();
+        final long targets = ~position.getOccupancy(alliance);
+        int mobility = pawnMobility(position, alliance, occupancy);
+        for (final PieceType pieceType : PIECE_TYPES) {
+            if (pieceType == PieceType.PAWN) {
+                continue;
+            }
+            long pieces = position.getBitBoard(alliance, pieceType);
+            while (pieces != BitBoardUtils.EMPTY_BOARD) {
+                final int square = BitBoardUtils.firstSquare(pieces);
+                mobility += BitBoardUtils.bitCount(attacks(pieceType, alliance, square, occupancy) & targets);
+                pieces = BitBoardUtils.clearFirstSquare(pieces);
+            }
+        }
+        return mobility;
+    }
+
+    private static int pawnMobility(final BitBoardPosition position,
+                                    final Alliance alliance,
+                                    final long occupancy) {
+        final long enemies = position.getOccupancy(alliance.opposite());
+        int mobility = 0;
+        long pawns = position.getBitBoard(alliance, PieceType.PAWN);
+        while (pawns != BitBoardUtils.EMPTY_BOARD) {
+            final int square = BitBoardUtils.firstSquare(pawns);
+            mobility += BitBoardUtils.bitCount(BitBoardUtils.pawnAttacks(alliance, square) & enemies);
+            final int[] pushTargets = BitBoardUtils.pawnPushTargets(alliance, square);
+            if (pushTargets.length > 0 && !BitBoardUtils.isSet(occupancy, pushTargets[0])) {
+                mobility++;
+                if (pushTargets.length > 1 && !BitBoardUtils.isSet(occupancy, pushTargets[1])) {
+                    mobility++;
+                }
+            }
+            pawns = BitBoardUtils.clearFirstSquare(pawns);
+        }
+        return mobility;
+    }
+
+    private static int mobilityRatio(final int mobility,
+                                     final int opponentMobility) {
+        return (mobility * 100) / Math.max(opponentMobility, 1);
+    }
+
+    private static int kingThreats(final BitBoardPosition position,
+                                   final int depth) {
+        final Alliance moveMaker = position.getMoveMaker();
+        if (!position.isInCheck(moveMaker)) {
+            return 0;
+        }
+        final int threatBonus = position.isInCheckMate() ? CHECK_MATE_BONUS * depthBonus(depth) : CHECK_BONUS;
+        return moveMaker.isWhite() ? -threatBonus : threatBonus;
+    }
+
+    private static int attacks(final BitBoardPosition position,
+                               final Alliance alliance) {
+        final long occupancy = position.getOccupancy();
+        int attackScore = 0;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            final long targets = targetsWorthAtLeast(position, alliance.opposite(), pieceType.getPieceValue());
+            long pieces = position.getBitBoard(alliance, pieceType);
+            while (pieces != BitBoardUtils.EMPTY_BOARD) {
+                final int square = BitBoardUtils.firstSquare(pieces);
+                attackScore += BitBoardUtils.bitCount(attacks(pieceType, alliance, square, occupancy) & targets);
+                pieces = BitBoardUtils.clearFirstSquare(pieces);
+            }
+        }
+        return attackScore * ATTACK_MULTIPLIER;
+    }
+
+    private static long targetsWorthAtLeast(final BitBoardPosition position,
+                                            final Alliance alliance,
+                                            final int pieceValue) {
+        long targets = BitBoardUtils.EMPTY_BOARD;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            if (pieceType != PieceType.KING && pieceType.getPieceValue() >= pieceValue) {
+                targets |= position.getBitBoard(alliance, pieceType);
+            }
+        }
+        return targets;
+    }
+
+    private static int castled(final BitBoardPosition position,
+                               final Alliance alliance) {
+        return position.isCastled(alliance) ? CASTLE_BONUS : 0;
+    }
+
+    private static int kingSafety(final BitBoardPosition position,
+                                  final Alliance alliance) {
+        final KingDistance kingDistance = KingSafetyAnalyser.get().calculateKingTropism(position, alliance);
+        return kingDistance.getEnemyPieceType() == null ? 0 :
+                (kingDistance.getEnemyPieceType().getPieceValue() / 100) * kingDistance.getDistance();
+    }
+
+    static long attackedSquares(final BitBoardPosition position,
+                                        final Alliance alliance,
+                                        final PieceType pieceType,
+                                        final long occupancy) {
+        long attackedSquares = BitBoardUtils.EMPTY_BOARD;
+        long pieces = position.getBitBoard(alliance, pieceType);
+        while (pieces != BitBoardUtils.EMPTY_BOARD) {
+            attackedSquares |= attacks(pieceType, alliance, BitBoardUtils.firstSquare(pieces), occupancy);
+            pieces = BitBoardUtils.clearFirstSquare(pieces);
+        }
+        return attackedSquares;
+    }
+
+    private static long attacks(final PieceType pieceType,
+                                final Alliance alliance,
+                                final int square,
+                                final long occupancy) {
+        switch (pieceType) {
+            case PAWN:
+                return BitBoardUtils.pawnAttacks(alliance, square);
+            case KNIGHT:
+                return BitBoardUtils.KNIGHT_ATTACKS[square];
+            case BISHOP:
+                return MagicBitBoards.bishopAttacks(square, occupancy);
+            case ROOK:
+                return MagicBitBoards.rookAttacks(square, occupancy);
+            case QUEEN:
+                return MagicBitBoards.queenAttacks(square, occupancy);
+            default:
+                return BitBoardUtils.KING_ATTACKS[square];
+        }
+    }
+}
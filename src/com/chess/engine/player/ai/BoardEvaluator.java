@@ -1,7 +1,20 @@
 package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 
 public interface BoardEvaluator {
     int evaluate(Board board, int depth);
+
+    default int evaluate(Board board, int depth, int alpha, int beta) {
+        return evaluate(board, depth);
+    }
+
+    default int evaluate(SearchBoard board, int depth) {
+        return evaluate(board, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    default int evaluate(SearchBoard board, int depth, int alpha, int beta) {
+        return evaluate(board.toBoard(), depth, alpha, beta);
+    }
 }
@@ -0,0 +1,126 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class EvaluationCache implements BoardEvaluator {
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int SCORE_SHIFT = 32;
+    private static final long VALID = 1L;
+    private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+
+    private final BoardEvaluator evaluator;
+    private final long[] entries;
+    private final int indexMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public EvaluationCache(final BoardEvaluator evaluator,
+                           final int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Evaluation cache size must be positive: " + sizeInMegaBytes);
+        }
+        final long requestedEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        final int numEntries = (int) Math.min(Long.highestOneBit(requestedEntries), 1 << 29);
+        this.evaluator = evaluator;
+        this.entries = new long[2 * numEntries];
+        this.indexMask = numEntries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    @Override
+    public int evaluate(final Board board,
+                        final int depth) {
+        final long key = evaluationKey(board, depth);
+        final long data = probe(key);
+        if (data != 0L) {
+            return getScore(data);
+        }
+        return store(key, this.evaluator.evaluate(board, depth));
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board,
+                        final int depth,
+                        final int alpha,
+                        final int beta) {
+        final long key = evaluationKey(board, depth);
+        final long data = probe(key);
+        if (data != 0L) {
+            return getScore(data);
+        }
+        return store(key, this.evaluator.evaluate(board, depth));
+    }
+
+    public BoardEvaluator getEvaluator() {
+        return this.evaluator;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    public int capacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public double getHitRate() {
+        final long numProbes = getProbes();
+        return numProbes == 0 ? 0.0 : (double) getHits() / numProbes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EvalCache[entries = %d, probes = %d, hits = %d (%.1f%%)]",
+                capacity(), getProbes(), getHits(), 100 * getHitRate());
+    }
+
+    private long probe(final long key) {
+        this.probes.increment();
+        final int index = index(key);
+        final long data = this.entries[index + 1];
+        if (data != 0L && (this.entries[index] ^ data) == key) {
+            this.hits.increment();
+            return data;
+        }
+        return 0L;
+    }
+
+    private int store(final long key,
+                      final int score) {
+        final int index = index(key);
+        final long data = ((long) score << SCORE_SHIFT) | VALID;
+        this.entries[index] = key ^ data;
+        this.entries[index + 1] = data;
+        return score;
+    }
+
+    private int index(final long key) {
+        return ((int) key & this.indexMask) << 1;
+    }
+
+    private static int getScore(final long data) {
+        return (int) (data >>> SCORE_SHIFT);
+    }
+
+    private static long evaluationKey(final BitBoardPosition position,
+                                      final int depth) {
+        return TranspositionTable.searchKey(position) ^ (depth * DEPTH_MIX);
+    }
+}
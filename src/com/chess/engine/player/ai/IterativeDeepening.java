@@ -3,6 +3,8 @@ package com.chess.engine.player.ai;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.MoveFactory;
+import com.chess.engine.board.MoveEncoding;
 import com.chess.engine.board.MoveTransition;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.primitives.Ints;
@@ -12,12 +14,15 @@ import java.util.*;
 import static com.google.common.collect.Ordering.from;
 
 public class IterativeDeepening extends Observable implements MoveStrategy {
-    private final BoardEvaluator evaluator;
+    private final EvaluationCache evaluator;
     private final int searchDepth;
     private final MoveSorter moveSorter;
+    private final TranspositionTable transpositionTable;
     private long boardsEvaluated;
     private long executionTime;
     private int cutOffsProduced;
+    private static final int DEFAULT_TABLE_SIZE_MB = 16;
+    private static final int DEFAULT_EVALUATION_CACHE_SIZE_MB = 4;
 
     private enum MoveSorter {
         SORT {
@@ -42,9 +47,22 @@ public class IterativeDeepening extends Observable implements MoveStrategy {
     }
 
     public IterativeDeepening(final int searchDepth) {
-        this.evaluator = StandardBoardEvaluator.get();
+        this(searchDepth, new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+    }
+
+    public IterativeDeepening(final int searchDepth,
+                              final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable,
+                new EvaluationCache(StandardBoardEvaluator.get(), DEFAULT_EVALUATION_CACHE_SIZE_MB));
+    }
+
+    public IterativeDeepening(final int searchDepth,
+                              final TranspositionTable transpositionTable,
+                              final EvaluationCache evaluationCache) {
+        this.evaluator = evaluationCache;
         this.searchDepth = searchDepth;
         this.moveSorter = MoveSorter.SORT;
+        this.transpositionTable = transpositionTable;
         this.boardsEvaluated = 0;
         this.cutOffsProduced = 0;
     }
@@ -63,6 +81,7 @@ public class IterativeDeepening extends Observable implements MoveStrategy {
     public Move execute(final Board board) {
         final long startTime = System.currentTimeMillis();
         System.out.println(board.currentPlayer() + " THINKING with depth = " + this.searchDepth);
+        this.transpositionTable.newSearch();
         MoveOrderingBuilder builder = new MoveOrderingBuilder();
         builder.setOrder(board.currentPlayer().getAlliance().isWhite() ? Ordering.DESC : Ordering.ASC);
         for (final Move move : board.currentPlayer().getLegalMoves()) {
@@ -104,6 +123,8 @@ public class IterativeDeepening extends Observable implements MoveStrategy {
         this.executionTime = System.currentTimeMillis() - startTime;
         System.out.printf("%s SELECTS %s [#boards evaluated = %d, time taken = %d ms, eval rate = %.1f cutoffCount = %d prune percent %.2f\n", board.currentPlayer(),
                 bestMove, this.boardsEvaluated, this.executionTime, (1000 * ((double) this.boardsEvaluated / this.executionTime)), this.cutOffsProduced, 100 * ((double) this.cutOffsProduced / this.boardsEvaluated));
+        System.out.println("\t" + this.transpositionTable);
+        System.out.println("\t" + this.evaluator);
         return bestMove;
     }
 
@@ -113,20 +134,30 @@ public class IterativeDeepening extends Observable implements MoveStrategy {
                    final int lowest) {
         if (depth == 0 || BoardUtils.isEndGame(board)) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
+        }
+        final long key = TranspositionTable.searchKey(board);
+        final long entry = this.transpositionTable.probe(key);
+        if (isUsable(entry, depth, highest, lowest)) {
+            return TranspositionTable.getScore(entry);
         }
         int currentHighest = highest;
-        for (final Move move : this.moveSorter.sort((board.currentPlayer().getLegalMoves()))) {
+        Move bestMove = MoveFactory.getNullMove();
+        for (final Move move : sortMoves(board, entry)) {
             final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
             if (moveTransition.getMoveStatus().isDone()) {
-                currentHighest = Math.max(currentHighest, min(moveTransition.getToBoard(),
-                        depth - 1, currentHighest, lowest));
+                final int currentValue = min(moveTransition.getToBoard(), depth - 1, currentHighest, lowest);
+                if (currentValue > currentHighest) {
+                    currentHighest = currentValue;
+                    bestMove = move;
+                }
                 if (lowest <= currentHighest) {
                     this.cutOffsProduced++;
                     break;
                 }
             }
         }
+        storeEntry(key, bestMove, currentHighest, depth, highest, lowest);
         return currentHighest;
     }
 
@@ -136,23 +167,92 @@ public class IterativeDeepening extends Observable implements MoveStrategy {
                    final int lowest) {
         if (depth == 0 || BoardUtils.isEndGame(board)) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
+        }
+        final long key = TranspositionTable.searchKey(board);
+        final long entry = this.transpositionTable.probe(key);
+        if (isUsable(entry, depth, highest, lowest)) {
+            return TranspositionTable.getScore(entry);
         }
         int currentLowest = lowest;
-        for (final Move move : this.moveSorter.sort((board.currentPlayer().getLegalMoves()))) {
+        Move bestMove = MoveFactory.getNullMove();
+        for (final Move move : sortMoves(board, entry)) {
             final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
             if (moveTransition.getMoveStatus().isDone()) {
-                currentLowest = Math.min(currentLowest, max(moveTransition.getToBoard(),
-                        depth - 1, highest, currentLowest));
+                final int currentValue = max(moveTransition.getToBoard(), depth - 1, highest, currentLowest);
+                if (currentValue < currentLowest) {
+                    currentLowest = currentValue;
+                    bestMove = move;
+                }
                 if (currentLowest <= highest) {
                     this.cutOffsProduced++;
                     break;
                 }
             }
         }
+        storeEntry(key, bestMove, currentLowest, depth, highest, lowest);
         return currentLowest;
     }
 
+    private Collection<Move> sortMoves(final Board board,
+                                       final long entry) {
+        final Collection<Move> sortedMoves = this.moveSorter.sort(board.currentPlayer().getLegalMoves());
+        if (entry == TranspositionTable.NO_ENTRY) {
+            return sortedMoves;
+        }
+        final int hashMove = TranspositionTable.getMove(entry);
+        final List<Move> orderedMoves = new ArrayList<>(sortedMoves.size());
+        for (final Move move : sortedMoves) {
+            if (toHashMove(move) == hashMove) {
+                orderedMoves.add(0, move);
+            } else {
+                orderedMoves.add(move);
+            }
+        }
+        return orderedMoves;
+    }
+
+    private void storeEntry(final long key,
+                            final Move bestMove,
+                            final int score,
+                            final int depth,
+                            final int highest,
+                            final int lowest) {
+        final int bound;
+        if (score >= lowest) {
+            bound = TranspositionTable.LOWER_BOUND;
+        } else if (score <= highest) {
+            bound = TranspositionTable.UPPER_BOUND;
+        } else {
+            bound = TranspositionTable.EXACT;
+        }
+        this.transpositionTable.store(key, toHashMove(bestMove), score, depth, bound);
+    }
+
+    private static boolean isUsable(final long entry,
+                                    final int depth,
+                                    final int highest,
+                                    final int lowest) {
+        if (entry == TranspositionTable.NO_ENTRY || TranspositionTable.getDepth(entry) < depth) {
+            return false;
+        }
+        final int score = TranspositionTable.getScore(entry);
+        switch (TranspositionTable.getBound(entry)) {
+            case TranspositionTable.EXACT:
+                return true;
+            case TranspositionTable.LOWER_BOUND:
+                return score >= lowest;
+            case TranspositionTable.UPPER_BOUND:
+                return score <= highest;
+            default:
+                return false;
+        }
+    }
+
+    private static int toHashMove(final Move move) {
+        return MoveEncoding.encode(move) & 0xFFFF;
+    }
+
     private static class MoveScoreRecord implements Comparable<MoveScoreRecord> {
         final Move move;
         final int score;
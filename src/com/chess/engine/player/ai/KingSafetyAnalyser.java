@@ -1,18 +1,23 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.BitBoardUtils;
+import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
-import com.chess.engine.board.Move;
-import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.Player;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 public class KingSafetyAnalyser {
     private static final KingSafetyAnalyser INSTANCE = new KingSafetyAnalyser();
     private static final List<List<Boolean>> COLUMNS = initColumns();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final KingDistance[][] KING_DISTANCES = initKingDistances();
+    private static final KingDistance NO_KING_DISTANCE = new KingDistance(null, Integer.MAX_VALUE);
 
     private KingSafetyAnalyser() {
 
@@ -35,85 +40,90 @@ public class KingSafetyAnalyser {
         return ImmutableList.copyOf(columns);
     }
 
-    public KingDistance calculateKingTropism(final Player player) {
-        final int playerKingSquare = player.getPlayerKing().getPiecePosition();
-        final Collection<Move> enemyMoves = player.getOpponent().getLegalMoves();
-        Piece closestPiece = null;
-        int closestDistance = Integer.MAX_VALUE;
-        for (final Move move : enemyMoves) {
-            final int currentDistance = calculateChebyshevDistance(playerKingSquare, move.getDestinationCoordinate());
-            if (currentDistance < closestDistance) {
-                closestDistance = currentDistance;
-                closestPiece = move.getMovedPiece();
+    private static KingDistance[][] initKingDistances() {
+        final KingDistance[][] kingDistances = new KingDistance[PIECE_TYPES.length][BoardUtils.NUM_TILES_PER_ROW];
+        for (final PieceType pieceType : PIECE_TYPES) {
+            for (int distance = 0; distance < BoardUtils.NUM_TILES_PER_ROW; distance++) {
+                kingDistances[pieceType.ordinal()][distance] = new KingDistance(pieceType, distance);
             }
         }
-        return new KingDistance(closestPiece, closestDistance);
+        return kingDistances;
     }
 
-    private int calculateChebyshevDistance(final int kingTileId,
-                                           final int enemyAttackTileId) {
-        final int squareOneRank = getRank(kingTileId);
-        final int squareTowRank = getRank(enemyAttackTileId);
-        final int squareOneFile = getFile(kingTileId);
-        final int squareTowFile = getFile(enemyAttackTileId);
-        final int rankDistance = Math.abs(squareTowRank - squareOneRank);
-        final int fileDistance = Math.abs(squareTowFile - squareOneFile);
-        return Math.max(rankDistance, fileDistance);
+    public KingDistance calculateKingTropism(final Board board,
+                                             final Player player) {
+        return calculateKingTropism(board, player.getAlliance());
     }
 
-    private static int getFile(final int coordinate) {
-        if (BoardUtils.INSTANCE.FIRST_COLUMN.get(coordinate)) {
-            return 1;
-        } else if (BoardUtils.INSTANCE.SECOND_COLUMN.get(coordinate)) {
-            return 2;
-        } else if (BoardUtils.INSTANCE.THIRD_COLUMN.get(coordinate)) {
-            return 3;
-        } else if (BoardUtils.INSTANCE.FOURTH_COLUMN.get(coordinate)) {
-            return 4;
-        } else if (BoardUtils.INSTANCE.FIFTH_COLUMN.get(coordinate)) {
-            return 5;
-        } else if (BoardUtils.INSTANCE.SIXTH_COLUMN.get(coordinate)) {
-            return 6;
-        } else if (BoardUtils.INSTANCE.SEVENTH_COLUMN.get(coordinate)) {
-            return 7;
-        } else if (BoardUtils.INSTANCE.EIGHTH_COLUMN.get(coordinate)) {
-            return 8;
+    public KingDistance calculateKingTropism(final BitBoardPosition position,
+                                             final Alliance alliance) {
+        final Alliance opponent = alliance.opposite();
+        final int playerKingSquare = BitBoardUtils.firstSquare(position.getBitBoard(alliance, PieceType.KING));
+        final long occupancy = position.getOccupancy();
+        final long closestSquares = calculateClosestAttackedSquares(position, opponent, playerKingSquare, occupancy);
+        if (closestSquares == BitBoardUtils.EMPTY_BOARD) {
+            return NO_KING_DISTANCE;
+        }
+        return KING_DISTANCES[calculateClosestAttacker(position, opponent, closestSquares, occupancy).ordinal()]
+                [calculateChebyshevDistance(playerKingSquare, BitBoardUtils.firstSquare(closestSquares))];
+    }
+
+    private static long calculateClosestAttackedSquares(final BitBoardPosition position,
+                                                        final Alliance opponent,
+                                                        final int playerKingSquare,
+                                                        final long occupancy) {
+        long remaining = BitBoardUtils.EMPTY_BOARD;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            remaining |= BitBoardEvaluator.attackedSquares(position, opponent, pieceType, occupancy);
+        }
+        long closestSquares = BitBoardUtils.EMPTY_BOARD;
+        int closestDistance = Integer.MAX_VALUE;
+        while (remaining != BitBoardUtils.EMPTY_BOARD) {
+            final int attackedSquare = BitBoardUtils.firstSquare(remaining);
+            final int currentDistance = calculateChebyshevDistance(playerKingSquare, attackedSquare);
+            if (currentDistance < closestDistance) {
+                closestDistance = currentDistance;
+                closestSquares = BitBoardUtils.squareMask(attackedSquare);
+            } else if (currentDistance == closestDistance) {
+                closestSquares |= BitBoardUtils.squareMask(attackedSquare);
+            }
+            remaining = BitBoardUtils.clearFirstSquare(remaining);
         }
-        throw new RuntimeException("Should not reach here!");
+        return closestSquares;
     }
 
-    private static int getRank(final int coordinate) {
-        if (BoardUtils.INSTANCE.FIRST_ROW.get(coordinate)) {
-            return 1;
-        } else if (BoardUtils.INSTANCE.SECOND_ROW.get(coordinate)) {
-            return 2;
-        } else if (BoardUtils.INSTANCE.THIRD_ROW.get(coordinate)) {
-            return 3;
-        } else if (BoardUtils.INSTANCE.FOURTH_ROW.get(coordinate)) {
-            return 4;
-        } else if (BoardUtils.INSTANCE.FIFTH_ROW.get(coordinate)) {
-            return 5;
-        } else if (BoardUtils.INSTANCE.SIXTH_ROW.get(coordinate)) {
-            return 6;
-        } else if (BoardUtils.INSTANCE.SEVENTH_ROW.get(coordinate)) {
-            return 7;
-        } else if (BoardUtils.INSTANCE.EIGHTH_ROW.get(coordinate)) {
-            return 8;
+    private static PieceType calculateClosestAttacker(final BitBoardPosition position,
+                                                      final Alliance opponent,
+                                                      final long closestSquares,
+                                                      final long occupancy) {
+        PieceType closestPieceType = null;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            if ((BitBoardEvaluator.attackedSquares(position, opponent, pieceType, occupancy) & closestSquares) != BitBoardUtils.EMPTY_BOARD &&
+                    (closestPieceType == null || pieceType.getPieceValue() > closestPieceType.getPieceValue())) {
+                closestPieceType = pieceType;
+            }
         }
-        throw new RuntimeException("Should not reach here!");
+        return closestPieceType;
+    }
+
+    private static int calculateChebyshevDistance(final int kingTileId,
+                                                  final int enemyAttackTileId) {
+        final int rankDistance = Math.abs(kingTileId / BoardUtils.NUM_TILES_PER_ROW - enemyAttackTileId / BoardUtils.NUM_TILES_PER_ROW);
+        final int fileDistance = Math.abs(kingTileId % BoardUtils.NUM_TILES_PER_ROW - enemyAttackTileId % BoardUtils.NUM_TILES_PER_ROW);
+        return Math.max(rankDistance, fileDistance);
     }
 
     static class KingDistance {
-        final Piece enemyPiece;
+        final PieceType enemyPieceType;
         final int distance;
 
-        KingDistance(final Piece enemyPiece, final int distance) {
-            this.enemyPiece = enemyPiece;
+        KingDistance(final PieceType enemyPieceType, final int distance) {
+            this.enemyPieceType = enemyPieceType;
             this.distance = distance;
         }
 
-        public Piece getEnemyPiece() {
-            return enemyPiece;
+        public PieceType getEnemyPieceType() {
+            return enemyPieceType;
         }
 
         public int getDistance() {
@@ -121,7 +131,7 @@ public class KingSafetyAnalyser {
         }
 
         public int tropismScore() {
-            return (enemyPiece.getPieceValue() / 10 * distance);
+            return (enemyPieceType.getPieceValue() / 10 * distance);
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.SearchBoard;
+
+import static com.chess.engine.player.ai.StandardBoardEvaluator.*;
+
+public final class LazyBoardEvaluator implements BoardEvaluator {
+    private static final LazyBoardEvaluator INSTANCE = new LazyBoardEvaluator();
+    private static final int ROOK_STRUCTURE_BOUND =
+            BoardUtils.NUM_TILES_PER_ROW * RookStructureAnalyser.OPEN_COLUMN_ROOK_BONUS;
+    // per side: one stack point and one isolated penalty per pawn at most
+    private static final int PAWN_STRUCTURE_BOUND =
+            BoardUtils.NUM_TILES_PER_ROW * (1 - PawnStructureAnalyser.ISOLATED_PAWN_PENALTY);
+    private static final int PAWN_STRUCTURE_MARGIN = ROOK_STRUCTURE_BOUND + BitBoardEvaluator.ACTIVITY_BOUND;
+    private static final int MATERIAL_MARGIN = PAWN_STRUCTURE_BOUND + PAWN_STRUCTURE_MARGIN;
+
+    private LazyBoardEvaluator() {
+
+    }
+
+    public static LazyBoardEvaluator get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int evaluate(final Board board,
+                        final int depth) {
+        return evaluate(board, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int evaluate(final Board board,
+                        final int depth,
+                        final int alpha,
+                        final int beta) {
+        return evaluatePosition(board, depth, alpha, beta);
+    }
+
+    @Override
+    public int evaluate(final SearchBoard board,
+                        final int depth,
+                        final int alpha,
+                        final int beta) {
+        return evaluatePosition(board, depth, alpha, beta);
+    }
+
+    private static int evaluatePosition(final BitBoardPosition position,
+                                        final int depth,
+                                        final int alpha,
+                                        final int beta) {
+        int score = pieceEvaluations(position);
+        if (isOutsideWindow(score, alpha, beta, MATERIAL_MARGIN) && !position.isInCheckMate()) {
+            return score;
+        }
+        score += pawnStructure(position);
+        if (isOutsideWindow(score, alpha, beta, PAWN_STRUCTURE_MARGIN) && !position.isInCheckMate()) {
+            return score;
+        }
+        return score + rookStructure(position) + BitBoardEvaluator.activity(position, depth);
+    }
+
+    private static boolean isOutsideWindow(final int score,
+                                           final int alpha,
+                                           final int beta,
+                                           final int margin) {
+        return (long) score + margin <= alpha || (long) score - margin >= beta;
+    }
+
+    private static int rookStructure(final BitBoardPosition position) {
+        return RookStructureAnalyser.get().rookStructureScore(position, Alliance.WHITE) -
+                RookStructureAnalyser.get().rookStructureScore(position, Alliance.BLACK);
+    }
+}
@@ -3,7 +3,10 @@ package com.chess.engine.player.ai;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveList;
 import com.chess.engine.board.MoveTransition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.SearchStack;
 
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -16,9 +19,15 @@ public final class MiniMax implements MoveStrategy {
     private long executionTime;
     private FreqTableRow[] freqTable;
     private int freqTableIndex;
+    private SearchStack searchStack;
 
     public MiniMax(final int searchDepth) {
-        this.evaluator = StandardBoardEvaluator.get();
+        this(searchDepth, StandardBoardEvaluator.get());
+    }
+
+    public MiniMax(final int searchDepth,
+                   final BoardEvaluator evaluator) {
+        this.evaluator = evaluator;
         this.boardsEvaluated = 0;
         this.searchDepth = searchDepth;
     }
@@ -42,6 +51,7 @@ public final class MiniMax implements MoveStrategy {
         System.out.println(board.currentPlayer() + " THINKING with depth = " + this.searchDepth);
         this.freqTable = new FreqTableRow[board.currentPlayer().getLegalMoves().size()];
         this.freqTableIndex = 0;
+        this.searchStack = SearchStack.get();
         int moveCounter = 1;
         final int numMoves = board.currentPlayer().getLegalMoves().size();
         for (final Move move : board.currentPlayer().getLegalMoves()) {
@@ -49,9 +59,10 @@ public final class MiniMax implements MoveStrategy {
             if (moveTransition.getMoveStatus().isDone()) {
                 final FreqTableRow row = new FreqTableRow(move);
                 this.freqTable[this.freqTableIndex] = row;
+                final SearchBoard searchBoard = SearchBoard.fromBoard(moveTransition.getToBoard());
                 currentValue = board.currentPlayer().getAlliance().isWhite() ?
-                        min(moveTransition.getToBoard(), this.searchDepth - 1) :
-                        max(moveTransition.getToBoard(), this.searchDepth - 1);
+                        min(searchBoard, this.searchDepth - 1) :
+                        max(searchBoard, this.searchDepth - 1);
                 System.out.println("\t" + toString() + " analyzing move (" + moveCounter + "/" + numMoves + ") " + move +
                         " scores " + currentValue + " " + this.freqTable[this.freqTableIndex]);
                 this.freqTableIndex++;
@@ -84,54 +95,54 @@ public final class MiniMax implements MoveStrategy {
         return bestMove;
     }
 
-    private int min(final Board board,
+    private int min(final SearchBoard board,
                     final int depth) {
         if (depth == 0) {
             this.boardsEvaluated++;
             this.freqTable[this.freqTableIndex].increment();
             return this.evaluator.evaluate(board, depth);
         }
-        if (isEndGameScenario(board)) {
+        final MoveList legalMoves = this.searchStack.generateLegalMoves(board);
+        if (isEndGameScenario(legalMoves)) {
             return this.evaluator.evaluate(board, depth);
         }
         int lowestSeenValue = Integer.MAX_VALUE;
-        for (final Move move : board.currentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = max(moveTransition.getToBoard(), depth - 1);
-                if (currentValue <= lowestSeenValue) {
-                    lowestSeenValue = currentValue;
-                }
+        for (int i = 0; i < legalMoves.size(); i++) {
+            board.makeMove(legalMoves.get(i));
+            final int currentValue = max(board, depth - 1);
+            board.unmakeMove();
+            if (currentValue <= lowestSeenValue) {
+                lowestSeenValue = currentValue;
             }
         }
         return lowestSeenValue;
     }
 
-    private int max(final Board board,
+    private int max(final SearchBoard board,
                     final int depth) {
         if (depth == 0) {
             this.boardsEvaluated++;
             this.freqTable[this.freqTableIndex].increment();
             return this.evaluator.evaluate(board, depth);
         }
-        if (isEndGameScenario(board)) {
+        final MoveList legalMoves = this.searchStack.generateLegalMoves(board);
+        if (isEndGameScenario(legalMoves)) {
             return this.evaluator.evaluate(board, depth);
         }
         int highestSeenValue = Integer.MIN_VALUE;
-        for (final Move move : board.currentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = min(moveTransition.getToBoard(), depth - 1);
-                if (currentValue >= highestSeenValue) {
-                    highestSeenValue = currentValue;
-                }
+        for (int i = 0; i < legalMoves.size(); i++) {
+            board.makeMove(legalMoves.get(i));
+            final int currentValue = min(board, depth - 1);
+            board.unmakeMove();
+            if (currentValue >= highestSeenValue) {
+                highestSeenValue = currentValue;
             }
         }
         return highestSeenValue;
     }
 
-    private static boolean isEndGameScenario(final Board board) {
-        return board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate();
+    private static boolean isEndGameScenario(final MoveList legalMoves) {
+        return legalMoves.isEmpty();
     }
 
     private static class FreqTableRow {
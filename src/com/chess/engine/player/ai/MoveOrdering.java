@@ -127,7 +127,6 @@ public final class MoveOrdering {
     }
 
     private static boolean isEndGameScenario(final Board board) {
-        return board.currentPlayer().isInCheckMate() ||
-                board.currentPlayer().isInStaleMate();
+        return board.getGameStatus().isTerminal();
     }
 }
@@ -0,0 +1,94 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PawnHashTable {
+
+    public static final long NO_ENTRY = 0L;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int WHITE_SHIFT = 32;
+    private static final int BLACK_SHIFT = 16;
+    private static final long SCORE_MASK = 0xFFFFL;
+    private static final long VALID = 1L;
+
+    private final long[] entries;
+    private final int indexMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public PawnHashTable(final int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Pawn hash size must be positive: " + sizeInMegaBytes);
+        }
+        final long requestedEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        final int numEntries = (int) Math.min(Long.highestOneBit(requestedEntries), 1 << 29);
+        this.entries = new long[2 * numEntries];
+        this.indexMask = numEntries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    public long probe(final long pawnKey) {
+        this.probes.increment();
+        final int index = index(pawnKey);
+        final long data = this.entries[index + 1];
+        if (data != NO_ENTRY && (this.entries[index] ^ data) == pawnKey) {
+            this.hits.increment();
+            return data;
+        }
+        return NO_ENTRY;
+    }
+
+    public long store(final long pawnKey,
+                      final int whiteScore,
+                      final int blackScore) {
+        final int index = index(pawnKey);
+        final long data = ((whiteScore & SCORE_MASK) << WHITE_SHIFT) |
+                ((blackScore & SCORE_MASK) << BLACK_SHIFT) | VALID;
+        this.entries[index] = pawnKey ^ data;
+        this.entries[index + 1] = data;
+        return data;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    public int capacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public double getHitRate() {
+        final long numProbes = getProbes();
+        return numProbes == 0 ? 0.0 : (double) getHits() / numProbes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PawnHash[entries = %d, probes = %d, hits = %d (%.1f%%)]",
+                capacity(), getProbes(), getHits(), 100 * getHitRate());
+    }
+
+    public static int getScore(final long data,
+                               final Alliance alliance) {
+        return (short) (data >>> (alliance.isWhite() ? WHITE_SHIFT : BLACK_SHIFT));
+    }
+
+    private int index(final long pawnKey) {
+        return ((int) pawnKey & this.indexMask) << 1;
+    }
+}
@@ -1,6 +1,11 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.BitBoardUtils;
+import com.chess.engine.board.BoardUtils;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.Player;
 import com.google.common.collect.ImmutableList;
 
@@ -12,9 +17,12 @@ public final class PawnStructureAnalyser {
     private static final PawnStructureAnalyser INSTANCE = new PawnStructureAnalyser();
     public static final int ISOLATED_PAWN_PENALTY = -25;
     public static final int DOUBLED_PAWN_PENALTY = -25;
+    private static final int DEFAULT_PAWN_HASH_SIZE_MB = 1;
 
-    private PawnStructureAnalyser() {
+    private final PawnHashTable pawnHashTable;
 
+    private PawnStructureAnalyser() {
+        this.pawnHashTable = new PawnHashTable(DEFAULT_PAWN_HASH_SIZE_MB);
     }
 
     public static PawnStructureAnalyser get() {
@@ -34,6 +42,31 @@ public final class PawnStructureAnalyser {
         return calculatePawnColumnStack(pawnsOnColumnTable) + calculateIsolatedPawnPenalty(pawnsOnColumnTable);
     }
 
+    public int pawnStructureScore(final BitBoardPosition position,
+                                  final Alliance alliance) {
+        long entry = this.pawnHashTable.probe(position.getPawnKey());
+        if (entry == PawnHashTable.NO_ENTRY) {
+            entry = this.pawnHashTable.store(position.getPawnKey(),
+                    calculatePawnStructureScore(position, Alliance.WHITE),
+                    calculatePawnStructureScore(position, Alliance.BLACK));
+        }
+        return PawnHashTable.getScore(entry, alliance);
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return this.pawnHashTable;
+    }
+
+    private static int calculatePawnStructureScore(final BitBoardPosition position,
+                                                   final Alliance alliance) {
+        final long pawns = position.getBitBoard(alliance, PieceType.PAWN);
+        final int[] pawnsOnColumnTable = new int[BoardUtils.NUM_TILES_PER_ROW];
+        for (int i = 0; i < pawnsOnColumnTable.length; i++) {
+            pawnsOnColumnTable[i] = BitBoardUtils.bitCount(pawns & BitBoardUtils.COLUMN_MASKS[i]);
+        }
+        return calculatePawnColumnStack(pawnsOnColumnTable) + calculateIsolatedPawnPenalty(pawnsOnColumnTable);
+    }
+
     private static Collection<Piece> calculatePlayerPawns(final Player player) {
         final List<Piece> playerPawnLocations = new ArrayList<>(8);
         for (final Piece piece : player.getActivePieces()) {
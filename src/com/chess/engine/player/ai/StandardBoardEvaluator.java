@@ -1,7 +1,11 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+import com.chess.engine.board.BitBoardUtils;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.PieceSquareTable;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.Player;
 import com.google.common.annotations.VisibleForTesting;
@@ -9,11 +13,11 @@ import com.google.common.annotations.VisibleForTesting;
 import static com.chess.engine.player.ai.KingSafetyAnalyser.*;
 
 public final class StandardBoardEvaluator implements BoardEvaluator {
-    private static final int CHECK_MATE_BONUS = 100000;
-    private static final int CHECK_BONUS = 20;
-    private static final int CASTLE_BONUS = 40;
-    private static final int MOBILITY_MULTIPLIER = 2;
-    private static final int ATTACK_MULTIPLIER = 2;
+    static final int CHECK_MATE_BONUS = 100000;
+    static final int CHECK_BONUS = 20;
+    static final int CASTLE_BONUS = 40;
+    static final int MOBILITY_MULTIPLIER = 2;
+    static final int ATTACK_MULTIPLIER = 2;
     private static final int TWO_BISHOPS_BONUS = 50;
     private static final StandardBoardEvaluator INSTANCE = new StandardBoardEvaluator();
     private static final int DEPTH_BONUS = 100;
@@ -29,7 +33,8 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
     @Override
     public int evaluate(final Board board,
                         final int depth) {
-        return score(board.whitePlayer(), depth) - score(board.blackPlayer(), depth);
+        return score(board.whitePlayer(), depth) - score(board.blackPlayer(), depth) +
+                pieceEvaluations(board) + pawnStructure(board);
     }
 
     @VisibleForTesting
@@ -38,9 +43,7 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return mobility(player) +
                 kingThreats(player, depth) +
                 attacks(player) +
-                castled(player) +
-                pieceEvaluations(player) +
-                pawnStructure(player);
+                castled(player);
     }
 
     private static int attacks(final Player player) {
@@ -57,16 +60,14 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return attackScore * ATTACK_MULTIPLIER;
     }
 
-    private static int pieceEvaluations(final Player player) {
-        int pieceValuationScore = 0;
-        int numBishops = 0;
-        for (final Piece piece : player.getActivePieces()) {
-            pieceValuationScore += piece.getPieceValue() + piece.locationBonus();
-            if (piece.getPieceType().isBishop()) {
-                numBishops++;
-            }
-        }
-        return pieceValuationScore + (numBishops == 2 ? TWO_BISHOPS_BONUS : 0);
+    static int pieceEvaluations(final BitBoardPosition position) {
+        return PieceSquareTable.middleGame(position.getMaterialScore()) +
+                bishopPair(position, Alliance.WHITE) - bishopPair(position, Alliance.BLACK);
+    }
+
+    private static int bishopPair(final BitBoardPosition position,
+                                  final Alliance alliance) {
+        return BitBoardUtils.bitCount(position.getBitBoard(alliance, Piece.PieceType.BISHOP)) == 2 ? TWO_BISHOPS_BONUS : 0;
     }
 
     private static int mobility(final Player player) {
@@ -85,7 +86,7 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return player.getOpponent().isInCheck() ? CHECK_BONUS : 0;
     }
 
-    private static int depthBonus(final int depth) {
+    static int depthBonus(final int depth) {
         return depth == 0 ? 1 : DEPTH_BONUS * depth;
     }
 
@@ -93,13 +94,14 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return player.isCastled() ? CASTLE_BONUS : 0;
     }
 
-    private static int pawnStructure(final Player player) {
-        return PawnStructureAnalyser.get().pawnStructureScore(player);
+    static int pawnStructure(final BitBoardPosition position) {
+        return PawnStructureAnalyser.get().pawnStructureScore(position, Alliance.WHITE) -
+                PawnStructureAnalyser.get().pawnStructureScore(position, Alliance.BLACK);
     }
 
-    private static int kingSafety(final Player player) {
-        final KingDistance kingDistance = KingSafetyAnalyser.get().calculateKingTropism(player);
-        return ((kingDistance.getEnemyPiece().getPieceValue() / 100) * kingDistance.getDistance());
+    private static int kingSafety(final Board board, final Player player) {
+        final KingDistance kingDistance = KingSafetyAnalyser.get().calculateKingTropism(board, player);
+        return ((kingDistance.getEnemyPieceType().getPieceValue() / 100) * kingDistance.getDistance());
     }
 
     private static int rookStructure(final Board board, final Player player) {
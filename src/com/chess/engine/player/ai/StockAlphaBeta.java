@@ -3,7 +3,11 @@ package com.chess.engine.player.ai;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveList;
 import com.chess.engine.board.MoveTransition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.SearchStack;
 import com.chess.engine.player.Player;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.Ordering;
@@ -23,18 +27,12 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
     private long boardsEvaluated;
     private long executionTime;
     private int quiescenceCount;
+    private final int[] rootHistory;
+    private SearchStack searchStack;
     private static final int MAX_QUIESCENCE = 5000;
+    private static final int CASTLE_SCORE = 1 << 30;
 
     private enum MoveSorter {
-        STANDARD {
-            @Override
-            Collection<Move> sort(final Collection<Move> moves) {
-                return Ordering.from((Comparator<Move>) (move1, move2) -> ComparisonChain.start()
-                        .compareTrueFirst(move1.isCastlingMove(), move2.isCastlingMove())
-                        .compare(mvvlva(move2), mvvlva(move1))
-                        .result()).immutableSortedCopy(moves);
-            }
-        },
         EXPENSIVE {
             @Override
             Collection<Move> sort(final Collection<Move> moves) {
@@ -50,10 +48,16 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
     }
 
     public StockAlphaBeta(final int searchDepth) {
-        this.evaluator = StandardBoardEvaluator.get();
+        this(searchDepth, StandardBoardEvaluator.get());
+    }
+
+    public StockAlphaBeta(final int searchDepth,
+                          final BoardEvaluator evaluator) {
+        this.evaluator = evaluator;
         this.searchDepth = searchDepth;
         this.boardsEvaluated = 0;
         this.quiescenceCount = 0;
+        this.rootHistory = new int[2];
     }
 
     @Override
@@ -70,6 +74,7 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
     public Move execute(final Board board) {
         final long startTime = System.currentTimeMillis();
         final Player currentPlayer = board.currentPlayer();
+        this.searchStack = SearchStack.get();
         Move bestMove = MoveFactory.getNullMove();
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
@@ -84,9 +89,12 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
             final String s;
             if (moveTransition.getMoveStatus().isDone()) {
                 final long candidateMoveStartTime = System.nanoTime();
+                this.rootHistory[0] = moveTransition.getToBoard().getTransitionMove();
+                this.rootHistory[1] = board.getTransitionMove();
+                final SearchBoard searchBoard = SearchBoard.fromBoard(moveTransition.getToBoard());
                 currentValue = currentPlayer.getAlliance().isWhite() ?
-                        min(moveTransition.getToBoard(), this.searchDepth - 1, highestSeenValue, lowestSeenValue) :
-                        max(moveTransition.getToBoard(), this.searchDepth - 1, highestSeenValue, lowestSeenValue);
+                        min(searchBoard, this.searchDepth - 1, highestSeenValue, lowestSeenValue) :
+                        max(searchBoard, this.searchDepth - 1, highestSeenValue, lowestSeenValue);
                 if (currentPlayer.getAlliance().isWhite() && currentValue > highestSeenValue) {
                     highestSeenValue = currentValue;
                     bestMove = move;
@@ -132,61 +140,76 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
         throw new RuntimeException("bad bad boy!");
     }
 
-    private int max(final Board board,
+    private int max(final SearchBoard board,
                     final int depth,
                     final int highest,
                     final int lowest) {
-        if (depth == 0 || BoardUtils.isEndGame(board)) {
+        if (depth == 0) {
+            this.boardsEvaluated++;
+            return this.evaluator.evaluate(board, depth, highest, lowest);
+        }
+        final MoveList moves = this.searchStack.generateLegalMoves(board);
+        if (moves.isEmpty()) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
         }
+        scoreMoves(moves);
         int currentHighest = highest;
-        for (final Move move : MoveSorter.STANDARD.sort((board.currentPlayer().getLegalMoves()))) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                Board toBoard = moveTransition.getToBoard();
-                currentHighest = Math.min(currentHighest, min(toBoard,
-                        calculateQuiescenceDepth(toBoard, depth), lowest, currentHighest));
-                if (currentHighest >= lowest) {
-                    return lowest;
-                }
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.selectNext(i));
+            currentHighest = Math.min(currentHighest, min(board,
+                    calculateQuiescenceDepth(board, depth), lowest, currentHighest));
+            board.unmakeMove();
+            if (currentHighest >= lowest) {
+                return lowest;
             }
         }
         return currentHighest;
     }
 
-    private int min(final Board board,
+    private int min(final SearchBoard board,
                     final int depth,
                     final int highest,
                     final int lowest) {
-        if (depth == 0 || BoardUtils.isEndGame(board)) {
+        if (depth == 0) {
+            this.boardsEvaluated++;
+            return this.evaluator.evaluate(board, depth, highest, lowest);
+        }
+        final MoveList moves = this.searchStack.generateLegalMoves(board);
+        if (moves.isEmpty()) {
             this.boardsEvaluated++;
-            return this.evaluator.evaluate(board, depth);
+            return this.evaluator.evaluate(board, depth, highest, lowest);
         }
+        scoreMoves(moves);
         int currentLowest = lowest;
-        for (final Move move : MoveSorter.STANDARD.sort((board.currentPlayer().getLegalMoves()))) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                Board toBoard = moveTransition.getToBoard();
-                currentLowest = Math.min(currentLowest, max(toBoard,
-                        calculateQuiescenceDepth(toBoard, depth), highest, currentLowest));
-                if (currentLowest <= highest) {
-                    return highest;
-                }
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.selectNext(i));
+            currentLowest = Math.min(currentLowest, max(board,
+                    calculateQuiescenceDepth(board, depth), highest, currentLowest));
+            board.unmakeMove();
+            if (currentLowest <= highest) {
+                return highest;
             }
         }
         return currentLowest;
     }
 
-    private int calculateQuiescenceDepth(final Board toBoard,
+    private static void scoreMoves(final MoveList moves) {
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            moves.setScore(i, (MoveEncoding.isCastle(move) ? CASTLE_SCORE : 0) + mvvlva(move));
+        }
+    }
+
+    private int calculateQuiescenceDepth(final SearchBoard toBoard,
                                          final int depth) {
         if (depth == 1 && this.quiescenceCount < MAX_QUIESCENCE) {
             int activityMeasure = 0;
-            if (toBoard.currentPlayer().isInCheck()) {
+            if (toBoard.isInCheck()) {
                 activityMeasure += 1;
             }
-            for (final Move move : BoardUtils.lastNMoves(toBoard, 2)) {
-                if (move.isAttack()) {
+            for (int i = 0; i < 2; i++) {
+                if (isAttack(toBoard, i)) {
                     activityMeasure += 1;
                 }
             }
@@ -198,6 +221,15 @@ public class StockAlphaBeta extends Observable implements MoveStrategy {
         return depth - 1;
     }
 
+    private boolean isAttack(final SearchBoard board,
+                             final int pliesAgo) {
+        if (pliesAgo < board.getPly()) {
+            return MoveEncoding.isCapture(board.getLastMove(pliesAgo));
+        }
+        final int rootPliesAgo = pliesAgo - board.getPly();
+        return rootPliesAgo < this.rootHistory.length && MoveEncoding.isCapture(this.rootHistory[rootPliesAgo]);
+    }
+
     private static String calculateTimeTaken(final long start, final long end) {
         final long timeTaken = (end - start) / 1000000;
         return timeTaken + " ms";
@@ -0,0 +1,173 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoardPosition;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+
+    public static final long NO_ENTRY = 0L;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int MOVE_BITS = 16;
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int AGE_SHIFT = 58;
+    private static final long MOVE_MASK = (1L << MOVE_BITS) - 1;
+    private static final int MAX_DEPTH = 0xFF;
+    private static final int MAX_AGE = 0x3F;
+    private static final long WHITE_CASTLED_MIX = 0xC2B2AE3D27D4EB4FL;
+    private static final long BLACK_CASTLED_MIX = 0x165667B19E3779F9L;
+
+    private final long[] entries;
+    private final int indexMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+    private final LongAdder stores;
+    private final LongAdder overwrites;
+    private volatile int age;
+
+    public TranspositionTable(final int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Transposition table size must be positive: " + sizeInMegaBytes);
+        }
+        final long requestedEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        final int numEntries = (int) Math.min(Long.highestOneBit(requestedEntries), 1 << 29);
+        this.entries = new long[2 * numEntries];
+        this.indexMask = numEntries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+        this.stores = new LongAdder();
+        this.overwrites = new LongAdder();
+        this.age = 0;
+    }
+
+    // castled kings score differently on the same squares, so the flags join the Zobrist key
+    public static long searchKey(final BitBoardPosition position) {
+        long key = position.getZobristKey();
+        if (position.isCastled(Alliance.WHITE)) {
+            key ^= WHITE_CASTLED_MIX;
+        }
+        if (position.isCastled(Alliance.BLACK)) {
+            key ^= BLACK_CASTLED_MIX;
+        }
+        return key;
+    }
+
+    public long probe(final long key) {
+        this.probes.increment();
+        final int index = index(key);
+        final long data = this.entries[index + 1];
+        if ((this.entries[index] ^ data) == key && data != NO_ENTRY) {
+            this.hits.increment();
+            return data;
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key,
+                      final int move,
+                      final int score,
+                      final int depth,
+                      final int bound) {
+        final int index = index(key);
+        final long existingData = this.entries[index + 1];
+        final long existingKey = this.entries[index] ^ existingData;
+        if (existingData != NO_ENTRY && existingKey != key &&
+                getAge(existingData) == this.age && getDepth(existingData) > depth) {
+            return;
+        }
+        if (existingData != NO_ENTRY && existingKey != key) {
+            this.overwrites.increment();
+        }
+        final long data = pack(move, score, depth, bound, this.age);
+        this.entries[index] = key ^ data;
+        this.entries[index + 1] = data;
+        this.stores.increment();
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & MAX_AGE;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.probes.reset();
+        this.hits.reset();
+        this.stores.reset();
+        this.overwrites.reset();
+    }
+
+    public int capacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public long getOverwrites() {
+        return this.overwrites.sum();
+    }
+
+    public double getHitRate() {
+        final long numProbes = getProbes();
+        return numProbes == 0 ? 0.0 : (double) getHits() / numProbes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TT[entries = %d, probes = %d, hits = %d (%.1f%%), stores = %d, overwrites = %d]",
+                capacity(), getProbes(), getHits(), 100 * getHitRate(), getStores(), getOverwrites());
+    }
+
+    public static int getMove(final long data) {
+        return (int) (data & MOVE_MASK);
+    }
+
+    public static int getScore(final long data) {
+        return (int) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(final long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & MAX_DEPTH);
+    }
+
+    public static int getBound(final long data) {
+        return (int) ((data >>> BOUND_SHIFT) & 0x3);
+    }
+
+    public static int getAge(final long data) {
+        return (int) ((data >>> AGE_SHIFT) & MAX_AGE);
+    }
+
+    private int index(final long key) {
+        return ((int) key & this.indexMask) << 1;
+    }
+
+    private static long pack(final int move,
+                             final int score,
+                             final int depth,
+                             final int bound,
+                             final int age) {
+        return (move & MOVE_MASK) |
+                ((score & 0xFFFFFFFFL) << SCORE_SHIFT) |
+                ((long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT) |
+                ((long) bound << BOUND_SHIFT) |
+                ((long) age << AGE_SHIFT);
+    }
+}
@@ -1,6 +1,7 @@
 package com.chess.gui;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameHistory;
 import com.chess.engine.board.Move;
 
 import javax.swing.*;
@@ -32,21 +33,22 @@ public class GameHistoryPanel extends JPanel {
     void redo(final Board board, final MoveLog moveHistory) {
         int currentRow = 0;
         this.model.clear();
-        for (final Move move : moveHistory.getMoves()) {
-            final String moveText = move.toString();
-            if (move.getMovedPiece().getPieceAlliance().isWhite()) {
+        final GameHistory history = moveHistory.getHistory();
+        for (int ply = 0; ply < history.size(); ply++) {
+            final String moveText = history.getMoveText(ply);
+            if (history.getMoveMaker(ply).isWhite()) {
                 this.model.setValueAt(moveText, currentRow, 0);
-            } else if (move.getMovedPiece().getPieceAlliance().isBlack()) {
+            } else if (history.getMoveMaker(ply).isBlack()) {
                 this.model.setValueAt(moveText, currentRow, 1);
                 currentRow++;
             }
         }
-        if (moveHistory.getMoves().size() > 0) {
-            final Move lastMove = moveHistory.getMoves().get(moveHistory.size() - 1);
-            final String moveText = lastMove.toString();
-            if (lastMove.getMovedPiece().getPieceAlliance().isWhite()) {
+        if (history.size() > 0) {
+            final int lastPly = history.size() - 1;
+            final String moveText = history.getMoveText(lastPly);
+            if (history.getMoveMaker(lastPly).isWhite()) {
                 this.model.setValueAt(moveText + calculateCheckAndCheckMateHash(board), currentRow, 0);
-            } else if (lastMove.getMovedPiece().getPieceAlliance().isBlack()) {
+            } else if (history.getMoveMaker(lastPly).isBlack()) {
                 this.model.setValueAt(moveText + calculateCheckAndCheckMateHash(board), currentRow - 1, 1);
             }
         }
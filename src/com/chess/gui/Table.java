@@ -64,7 +64,7 @@ public final class Table extends Observable {
         this.debugPanel = new DebugPanel();
         this.takenPiecesPanel = new TakenPiecesPanel();
         this.boardPanel = new BoardPanel();
-        this.moveLog = new MoveLog();
+        this.moveLog = new MoveLog(this.chessboard);
         this.addObserver(new TableGameAIWatcher());
         this.gameSetup = new GameSetup(this.gameFrame, true);
         this.gameFrame.add(this.takenPiecesPanel, BorderLayout.WEST);
@@ -168,6 +168,7 @@ public final class Table extends Observable {
                 if (fenString != null) {
                     undoAllMoves();
                     chessboard = FenUtilities.createGameFromFEN(fenString);
+                    Table.get().getMoveLog().reset(chessboard);
                     Table.get().getBoardPanel().drawBoard(chessboard);
                 }
             }
@@ -231,9 +232,8 @@ public final class Table extends Observable {
         escapeAnalysis.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                final Move lastMove = moveLog.getMoves().get(moveLog.size() - 1);
-                if (lastMove != null) {
-                    System.out.println(MoveUtils.exchangeScore(lastMove));
+                if (moveLog.size() > 0) {
+                    System.out.println(MoveUtils.exchangeScore(moveLog.getHistory()));
                 }
             }
         });
@@ -367,12 +367,9 @@ public final class Table extends Observable {
     }
 
     private void undoAllMoves() {
-        for (int i = Table.get().getMoveLog().size() - 1; i >= 0; i--) {
-            final Move lastMove = Table.get().getMoveLog().removeMove(Table.get().getMoveLog().size() - 1);
-            this.chessboard = this.chessboard.currentPlayer().unMakeMove(lastMove).getToBoard();
-        }
-        this.computerMove = null;
         Table.get().getMoveLog().clear();
+        this.chessboard = Table.get().getMoveLog().getHistory().getCurrentBoard();
+        this.computerMove = null;
         Table.get().getGameHistoryPanel().redo(chessboard, Table.get().getMoveLog());
         Table.get().getTakenPiecesPanel().redo(Table.get().getMoveLog());
         Table.get().getBoardPanel().drawBoard(chessboard);
@@ -396,10 +393,8 @@ public final class Table extends Observable {
     }
 
     private void undoLastMove() {
-        final Move lastMove = Table.get().getMoveLog().removeMove(Table.get().getMoveLog().size() - 1);
-        this.chessboard = this.chessboard.currentPlayer().unMakeMove(lastMove).getToBoard();
+        this.chessboard = Table.get().getMoveLog().undoLastMove();
         this.computerMove = null;
-        Table.get().getMoveLog().removeMove(lastMove);
         Table.get().getGameHistoryPanel().redo(chessboard, Table.get().getMoveLog());
         Table.get().getTakenPiecesPanel().redo(Table.get().getMoveLog());
         Table.get().getBoardPanel().drawBoard(chessboard);
@@ -463,7 +458,7 @@ public final class Table extends Observable {
                 final Move bestMove = get();
                 Table.get().updateComputerMove(bestMove);
                 Table.get().updateGameBoard(Table.get().getGameBoard().currentPlayer().makeMove(bestMove).getToBoard());
-                Table.get().getMoveLog().addMove(bestMove);
+                Table.get().getMoveLog().addMove(bestMove, Table.get().getGameBoard());
                 Table.get().getGameHistoryPanel().redo(Table.get().getGameBoard(), Table.get().getMoveLog());
                 Table.get().getTakenPiecesPanel().redo(Table.get().getMoveLog());
                 Table.get().getBoardPanel().drawBoard(Table.get().getGameBoard());
@@ -549,34 +544,35 @@ public final class Table extends Observable {
     }
 
     public static class MoveLog {
-        private final List<Move> moves;
+        private GameHistory history;
 
-        MoveLog() {
-            this.moves = new ArrayList<>();
+        MoveLog(final Board startBoard) {
+            this.history = new GameHistory(startBoard);
         }
 
-        public List<Move> getMoves() {
-            return this.moves;
+        public GameHistory getHistory() {
+            return this.history;
         }
 
-        void addMove(final Move move) {
-            this.moves.add(move);
+        void addMove(final Move move,
+                     final Board toBoard) {
+            this.history.addMove(move, toBoard);
         }
 
         public int size() {
-            return this.moves.size();
+            return this.history.size();
         }
 
         void clear() {
-            this.moves.clear();
+            this.history.clear();
         }
 
-        Move removeMove(final int index) {
-            return this.moves.remove(index);
+        void reset(final Board startBoard) {
+            this.history = new GameHistory(startBoard);
         }
 
-        boolean removeMove(final Move move) {
-            return this.moves.remove(move);
+        Board undoLastMove() {
+            return this.history.undoLastMove();
         }
     }
 
@@ -614,7 +610,7 @@ public final class Table extends Observable {
                             final MoveTransition transition = chessboard.currentPlayer().makeMove(move);
                             if (transition.getMoveStatus().isDone()) {
                                 chessboard = transition.getToBoard();
-                                moveLog.addMove(move);
+                                moveLog.addMove(move, chessboard);
                             }
                             sourceTile = null;
                             humanMovedPiece = null;
@@ -1,7 +1,9 @@
 package com.chess.gui;
 
-import com.chess.engine.board.Move;
-import com.chess.engine.pieces.Piece;
+import com.chess.engine.Alliance;
+import com.chess.engine.board.GameHistory;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.google.common.primitives.Ints;
 
 import javax.imageio.ImageIO;
@@ -43,56 +45,50 @@ public class TakenPiecesPanel extends JPanel {
     public void redo(final MoveLog moveLog) {
         this.southPanel.removeAll();
         this.northPanel.removeAll();
-        final List<Piece> whiteTakenPieces = new ArrayList<>();
-        final List<Piece> blackTakenPieces = new ArrayList<>();
-        for (final Move move : moveLog.getMoves()) {
-            if (move.isAttack()) {
-                final Piece takenPiece = move.getAttackedPiece();
-                if (takenPiece.getPieceAlliance().isWhite()) {
+        final List<PieceType> whiteTakenPieces = new ArrayList<>();
+        final List<PieceType> blackTakenPieces = new ArrayList<>();
+        final GameHistory history = moveLog.getHistory();
+        for (int ply = 0; ply < history.size(); ply++) {
+            final PieceType takenPiece = MoveEncoding.getCapturedPieceType(history.getMove(ply));
+            if (takenPiece != null) {
+                final Alliance takenAlliance = history.getMoveMaker(ply).opposite();
+                if (takenAlliance.isWhite()) {
                     whiteTakenPieces.add(takenPiece);
-                } else if (takenPiece.getPieceAlliance().isBlack()) {
+                } else if (takenAlliance.isBlack()) {
                     blackTakenPieces.add(takenPiece);
                 } else {
                     throw new RuntimeException("should not reach here!");
                 }
             }
         }
-        Collections.sort(whiteTakenPieces, new Comparator<Piece>() {
+        final Comparator<PieceType> pieceValueComparator = new Comparator<PieceType>() {
             @Override
-            public int compare(Piece o1, Piece o2) {
+            public int compare(PieceType o1, PieceType o2) {
                 return Ints.compare(o1.getPieceValue(), o2.getPieceValue());
             }
-        });
-        Collections.sort(blackTakenPieces, new Comparator<Piece>() {
-            @Override
-            public int compare(Piece o1, Piece o2) {
-                return Ints.compare(o1.getPieceValue(), o2.getPieceValue());
-            }
-        });
-        for (final Piece takenPiece : whiteTakenPieces) {
-            try {
-                final BufferedImage image = ImageIO.read(new File("art/pieces/plain/" +
-                        takenPiece.getPieceAlliance().toString().substring(0, 1) + "" + takenPiece.toString() + ".gif"));
-                final ImageIcon icon = new ImageIcon(image);
-                final JLabel imageLabel = new JLabel(new ImageIcon(icon.getImage().getScaledInstance(
-                        icon.getIconWidth() - 15, icon.getIconWidth() - 15, Image.SCALE_SMOOTH)));
-                this.northPanel.add(imageLabel);
-            } catch (final IOException e) {
-                e.printStackTrace();
-            }
+        };
+        Collections.sort(whiteTakenPieces, pieceValueComparator);
+        Collections.sort(blackTakenPieces, pieceValueComparator);
+        for (final PieceType takenPiece : whiteTakenPieces) {
+            this.northPanel.add(createTakenPieceLabel(Alliance.WHITE, takenPiece));
         }
-        for (final Piece takenPiece : blackTakenPieces) {
-            try {
-                final BufferedImage image = ImageIO.read(new File("art/pieces/plain/" +
-                        takenPiece.getPieceAlliance().toString().substring(0, 1) + "" + takenPiece.toString() + ".gif"));
-                final ImageIcon icon = new ImageIcon(image);
-                final JLabel imageLabel = new JLabel(new ImageIcon(icon.getImage().getScaledInstance(
-                        icon.getIconWidth() - 15, icon.getIconWidth() - 15, Image.SCALE_SMOOTH)));
-                this.southPanel.add(imageLabel);
-            } catch (final IOException e) {
-                e.printStackTrace();
-            }
+        for (final PieceType takenPiece : blackTakenPieces) {
+            this.southPanel.add(createTakenPieceLabel(Alliance.BLACK, takenPiece));
         }
         validate();
     }
+
+    private static JLabel createTakenPieceLabel(final Alliance alliance,
+                                                final PieceType takenPiece) {
+        try {
+            final BufferedImage image = ImageIO.read(new File("art/pieces/plain/" +
+                    alliance.toString().substring(0, 1) + "" + takenPiece.toString() + ".gif"));
+            final ImageIcon icon = new ImageIcon(image);
+            return new JLabel(new ImageIcon(icon.getImage().getScaledInstance(
+                    icon.getIconWidth() - 15, icon.getIconWidth() - 15, Image.SCALE_SMOOTH)));
+        } catch (final IOException e) {
+            e.printStackTrace();
+            return new JLabel();
+        }
+    }
 }
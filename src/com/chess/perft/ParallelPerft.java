@@ -0,0 +1,129 @@
+package com.chess.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveTransition;
+import com.chess.pgn.FenUtilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelPerft {
+
+    private final ForkJoinPool pool;
+    private final PerftHash perftHash;
+    private final int splitDepth;
+
+    public ParallelPerft(final int parallelism,
+                         final PerftHash perftHash,
+                         final int splitDepth) {
+        if (splitDepth < 1 || splitDepth > 2) {
+            throw new IllegalArgumentException("Split depth must be 1 or 2: " + splitDepth);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.perftHash = perftHash;
+        this.splitDepth = splitDepth;
+    }
+
+    public ParallelPerft(final PerftHash perftHash) {
+        this(Runtime.getRuntime().availableProcessors(), perftHash, 1);
+    }
+
+    public long perft(final Board board,
+                      final int depth) {
+        return this.pool.invoke(new PerftTask(board, depth, this.splitDepth));
+    }
+
+    public PerftHash getPerftHash() {
+        return this.perftHash;
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private long sequentialPerft(final Board board,
+                                 final int depth) {
+        if (depth <= 1) {
+            return depth == 1 ? board.currentPlayer().getLegalMoves().size() : 1;
+        }
+        if (this.perftHash != null) {
+            final long cachedNodes = this.perftHash.probe(board.getZobristKey(), depth);
+            if (cachedNodes != PerftHash.NO_ENTRY) {
+                return cachedNodes;
+            }
+        }
+        long nodes = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                nodes += sequentialPerft(transition.getToBoard(), depth - 1);
+            }
+        }
+        if (this.perftHash != null) {
+            this.perftHash.store(board.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    private final class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private final Board board;
+        private final int depth;
+        private final int splitsRemaining;
+
+        PerftTask(final Board board,
+                  final int depth,
+                  final int splitsRemaining) {
+            this.board = board;
+            this.depth = depth;
+            this.splitsRemaining = splitsRemaining;
+        }
+
+        @Override
+        protected Long compute() {
+            if (this.splitsRemaining == 0 || this.depth <= 1) {
+                return sequentialPerft(this.board, this.depth);
+            }
+            final List<PerftTask> subTasks = new ArrayList<>();
+            for (final Move move : this.board.currentPlayer().getLegalMoves()) {
+                final MoveTransition transition = this.board.currentPlayer().makeMove(move);
+                if (transition.getMoveStatus().isDone()) {
+                    subTasks.add(new PerftTask(transition.getToBoard(), this.depth - 1, this.splitsRemaining - 1));
+                }
+            }
+            long nodes = 0;
+            for (final PerftTask subTask : invokeAll(subTasks)) {
+                nodes += subTask.join();
+            }
+            return nodes;
+        }
+    }
+
+    public static void main(final String[] args) {
+        if (args.length < 2) {
+            System.out.println("usage: ParallelPerft \"<fen>\" <depth> [threads] [hash MB] [split depth]");
+            return;
+        }
+        final Board board = FenUtilities.createGameFromFEN(args[0]);
+        final int depth = Integer.parseInt(args[1]);
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        final int hashSize = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+        final int splitDepth = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+        final ParallelPerft parallelPerft = new ParallelPerft(threads,
+                hashSize > 0 ? new PerftHash(hashSize) : null, splitDepth);
+        System.out.println(board);
+        final long startTime = System.nanoTime();
+        final long nodes = parallelPerft.perft(board, depth);
+        final long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        parallelPerft.shutdown();
+        System.out.println("depth " + depth + ": nodes = " + nodes);
+        System.out.println(String.format("threads = %d, time = %d ms, nodes/sec = %d",
+                threads, elapsedNanos / 1_000_000, (long) (nodes * 1e9 / elapsedNanos)));
+        if (parallelPerft.getPerftHash() != null) {
+            System.out.println(parallelPerft.getPerftHash());
+        }
+    }
+}
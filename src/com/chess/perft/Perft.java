@@ -0,0 +1,90 @@
+package com.chess.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveTransition;
+import com.chess.pgn.FenUtilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Perft {
+
+    private Perft() {
+        throw new RuntimeException("Not Instantiable");
+    }
+
+    public static PerftResult perft(final Board board,
+                                    final int depth) {
+        if (depth <= 0) {
+            return new PerftResult(1, 0, 0, 0, 0, 0);
+        }
+        final PerftResult result = new PerftResult();
+        perft(board, depth, result);
+        return result;
+    }
+
+    public static Map<String, PerftResult> divide(final Board board,
+                                                  final int depth) {
+        final Map<String, PerftResult> results = new LinkedHashMap<>();
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                final PerftResult result = new PerftResult();
+                if (depth <= 1) {
+                    result.addLeaf(move, isCheck(transition.getToBoard()));
+                } else {
+                    perft(transition.getToBoard(), depth - 1, result);
+                }
+                results.put(MoveEncoding.toString(MoveEncoding.encode(move)), result);
+            }
+        }
+        return results;
+    }
+
+    static void perft(final Board board,
+                      final int depth,
+                      final PerftResult result) {
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                if (depth == 1) {
+                    result.addLeaf(move, isCheck(transition.getToBoard()));
+                } else {
+                    perft(transition.getToBoard(), depth - 1, result);
+                }
+            }
+        }
+    }
+
+    static boolean isCheck(final Board board) {
+        return board.isInCheck(board.getMoveMaker());
+    }
+
+    public static void main(final String[] args) {
+        if (args.length < 2) {
+            System.out.println("usage: Perft \"<fen>\" <depth> [divide]");
+            return;
+        }
+        final Board board = FenUtilities.createGameFromFEN(args[0]);
+        final int depth = Integer.parseInt(args[1]);
+        final boolean divide = args.length > 2 && args[2].equals("divide");
+        System.out.println(board);
+        final long startTime = System.nanoTime();
+        final PerftResult result;
+        if (divide) {
+            result = new PerftResult();
+            for (final Map.Entry<String, PerftResult> entry : divide(board, depth).entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue().getNodes());
+                result.add(entry.getValue());
+            }
+        } else {
+            result = perft(board, depth);
+        }
+        final long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        System.out.println("depth " + depth + ": " + result);
+        System.out.println(String.format("time = %d ms, nodes/sec = %d",
+                elapsedNanos / 1_000_000, (long) (result.getNodes() * 1e9 / elapsedNanos)));
+    }
+}
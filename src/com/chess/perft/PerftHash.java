@@ -0,0 +1,81 @@
+package com.chess.perft;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PerftHash {
+
+    public static final long NO_ENTRY = -1L;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+    private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+
+    private final long[] entries;
+    private final int indexMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public PerftHash(final int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Perft hash size must be positive: " + sizeInMegaBytes);
+        }
+        final long requestedEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        final int numEntries = (int) Math.min(Long.highestOneBit(requestedEntries), 1 << 29);
+        this.entries = new long[2 * numEntries];
+        this.indexMask = numEntries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    public long probe(final long key,
+                      final int depth) {
+        this.probes.increment();
+        final long depthKey = depthKey(key, depth);
+        final int index = index(depthKey);
+        final long data = this.entries[index + 1];
+        if (data != 0L && (this.entries[index] ^ data) == depthKey && (data & DEPTH_MASK) == depth) {
+            this.hits.increment();
+            return data >>> DEPTH_BITS;
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key,
+                      final int depth,
+                      final long nodes) {
+        final long depthKey = depthKey(key, depth);
+        final int index = index(depthKey);
+        final long data = (nodes << DEPTH_BITS) | depth;
+        this.entries[index] = depthKey ^ data;
+        this.entries[index + 1] = data;
+    }
+
+    public int capacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public String toString() {
+        final long numProbes = getProbes();
+        return String.format("PerftHash[entries = %d, probes = %d, hits = %d (%.1f%%)]",
+                capacity(), numProbes, getHits(), numProbes == 0 ? 0.0 : 100.0 * getHits() / numProbes);
+    }
+
+    private int index(final long depthKey) {
+        return ((int) depthKey & this.indexMask) << 1;
+    }
+
+    private static long depthKey(final long key,
+                                 final int depth) {
+        return key ^ (depth * DEPTH_MIX);
+    }
+}
@@ -0,0 +1,112 @@
+package com.chess.perft;
+
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.PawnEnPassantAttack;
+import com.chess.engine.board.Move.PawnPromotion;
+
+public final class PerftResult {
+    private long nodes;
+    private long captures;
+    private long enPassants;
+    private long castles;
+    private long promotions;
+    private long checks;
+
+    public PerftResult() {
+    }
+
+    public PerftResult(final long nodes,
+                       final long captures,
+                       final long enPassants,
+                       final long castles,
+                       final long promotions,
+                       final long checks) {
+        this.nodes = nodes;
+        this.captures = captures;
+        this.enPassants = enPassants;
+        this.castles = castles;
+        this.promotions = promotions;
+        this.checks = checks;
+    }
+
+    void addLeaf(final Move move,
+                 final boolean isCheck) {
+        this.nodes++;
+        if (move.isAttack()) {
+            this.captures++;
+        }
+        if (move instanceof PawnEnPassantAttack) {
+            this.enPassants++;
+        }
+        if (move.isCastlingMove()) {
+            this.castles++;
+        }
+        if (move instanceof PawnPromotion) {
+            this.promotions++;
+        }
+        if (isCheck) {
+            this.checks++;
+        }
+    }
+
+    void add(final PerftResult other) {
+        this.nodes += other.nodes;
+        this.captures += other.captures;
+        this.enPassants += other.enPassants;
+        this.castles += other.castles;
+        this.promotions += other.promotions;
+        this.checks += other.checks;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getCaptures() {
+        return this.captures;
+    }
+
+    public long getEnPassants() {
+        return this.enPassants;
+    }
+
+    public long getCastles() {
+        return this.castles;
+    }
+
+    public long getPromotions() {
+        return this.promotions;
+    }
+
+    public long getChecks() {
+        return this.checks;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PerftResult)) {
+            return false;
+        }
+        final PerftResult otherResult = (PerftResult) other;
+        return this.nodes == otherResult.nodes &&
+                this.captures == otherResult.captures &&
+                this.enPassants == otherResult.enPassants &&
+                this.castles == otherResult.castles &&
+                this.promotions == otherResult.promotions &&
+                this.checks == otherResult.checks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.nodes) + 31 * Long.hashCode(this.captures) + 961 * Long.hashCode(this.checks);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("nodes = %d, captures = %d, en passant = %d, castles = %d, promotions = %d, checks = %d",
+                this.nodes, this.captures, this.enPassants, this.castles, this.promotions, this.checks);
+    }
+}
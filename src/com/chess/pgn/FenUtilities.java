@@ -46,52 +46,53 @@ public class FenUtilities {
         while (i < boardTiles.length) {
             switch (boardTiles[i]) {
                 case 'r':
-                    builder.setPiece(new Rook(Alliance.BLACK, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.BLACK, i,
+                            (i == 0 && blackQueenSideCastle) || (i == 7 && blackKingSideCastle)));
                     i++;
                     break;
                 case 'n':
-                    builder.setPiece(new Knight(Alliance.BLACK, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.BLACK, i, true));
                     i++;
                     break;
                 case 'b':
-                    builder.setPiece(new Bishop(Alliance.BLACK, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.BLACK, i, true));
                     i++;
                     break;
                 case 'q':
-                    builder.setPiece(new Queen(Alliance.BLACK, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getQueen(Alliance.BLACK, i, true));
                     i++;
                     break;
                 case 'k':
-                    final boolean isCastled = !blackKingSideCastle && !blackQueenSideCastle;
-                    builder.setPiece(new King(Alliance.BLACK, i++, blackKingSideCastle, blackQueenSideCastle));
+                    builder.setPiece(PieceUtils.INSTANCE.getKing(Alliance.BLACK, i, true, false, blackKingSideCastle, blackQueenSideCastle));
                     i++;
                     break;
                 case 'p':
-                    builder.setPiece(new Pawn(Alliance.BLACK, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.BLACK, i, true));
                     i++;
                     break;
                 case 'R':
-                    builder.setPiece(new Rook(Alliance.WHITE, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getRook(Alliance.WHITE, i,
+                            (i == 56 && whiteQueenSideCastle) || (i == 63 && whiteKinSideCastle)));
                     i++;
                     break;
                 case 'N':
-                    builder.setPiece(new Knight(Alliance.WHITE, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getKnight(Alliance.WHITE, i, true));
                     i++;
                     break;
                 case 'B':
-                    builder.setPiece(new Bishop(Alliance.WHITE, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getBishop(Alliance.WHITE, i, true));
                     i++;
                     break;
                 case 'Q':
-                    builder.setPiece(new Queen(Alliance.WHITE, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getQueen(Alliance.WHITE, i, true));
                     i++;
                     break;
                 case 'K':
-                    builder.setPiece(new King(Alliance.WHITE, i++, blackKingSideCastle, blackQueenSideCastle));
+                    builder.setPiece(PieceUtils.INSTANCE.getKing(Alliance.WHITE, i, true, false, whiteKinSideCastle, whiteQueenSideCastle));
                     i++;
                     break;
                 case 'P':
-                    builder.setPiece(new Pawn(Alliance.WHITE, i));
+                    builder.setPiece(PieceUtils.INSTANCE.getPawn(Alliance.WHITE, i, true));
                     i++;
                     break;
                 case '-':
@@ -101,7 +102,11 @@ public class FenUtilities {
                     throw new RuntimeException("Invalid FEN String " + gameConfiguration);
             }
         }
-        builder.setMoveMaker(moveMaker(fenPartitions[1]));
+        final Alliance moveMaker = moveMaker(fenPartitions[1]);
+        builder.setMoveMaker(moveMaker);
+        if (fenPartitions.length > 3 && !fenPartitions[3].equals("-")) {
+            builder.setEnPassantPawn(enPassantPawn(fenPartitions[3], moveMaker));
+        }
         return builder.build();
     }
 
@@ -114,6 +119,13 @@ public class FenUtilities {
         throw new RuntimeException("Invalid FEN String " + moveMakerString);
     }
 
+    private static Pawn enPassantPawn(final String enPassantString,
+                                      final Alliance moveMaker) {
+        final int enPassantSquare = BoardUtils.INSTANCE.getCoordinateAtPosition(enPassantString);
+        return PieceUtils.INSTANCE.getPawn(moveMaker.opposite(),
+                enPassantSquare + (moveMaker.getOppositeDirection() * BoardUtils.NUM_TILES_PER_ROW), true);
+    }
+
     private static boolean whiteKingSideCastle(final String fenCastleString) {
         return fenCastleString.contains("K");
     }
@@ -149,10 +161,9 @@ public class FenUtilities {
     }
 
     private static String calculateEnPassantSquare(final Board board) {
-        final Pawn enPassantPawn = board.getEnPassantPawn();
-        if (enPassantPawn != null) {
-            return BoardUtils.INSTANCE.getPositionAtCoordinate(enPassantPawn.getPiecePosition() +
-                    (8) + enPassantPawn.getPieceAlliance().getOppositeDirection());
+        final int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != -1) {
+            return BoardUtils.INSTANCE.getPositionAtCoordinate(enPassantSquare);
         }
         return "-";
     }
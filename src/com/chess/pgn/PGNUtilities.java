@@ -74,8 +74,8 @@ public class PGNUtilities {
         builder.append(calculateEventString()).append("\n");
         builder.append(calculateDataString()).append("\n");
         builder.append(calculatePlyCountString(moveLog)).append("\n");
-        for (final Move move : moveLog.getMoves()) {
-            builder.append(move.toString()).append(" ");
+        for (int ply = 0; ply < moveLog.size(); ply++) {
+            builder.append(moveLog.getHistory().getMoveText(ply)).append(" ");
         }
         try (final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(pgnFile, true)))) {
             writer.write(builder.toString());
@@ -3,11 +3,30 @@ package com.chess.test;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.*;
 import com.chess.engine.pieces.*;
+import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.BitBoardEvaluator;
 import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.EvaluationCache;
+import com.chess.engine.player.ai.LazyBoardEvaluator;
+import com.chess.engine.player.ai.PawnHashTable;
+import com.chess.engine.player.ai.PawnStructureAnalyser;
+import com.chess.engine.player.ai.RookStructureAnalyser;
 import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.engine.player.ai.TranspositionTable;
+import com.chess.pgn.FenUtilities;
 import com.google.common.collect.Iterables;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static com.chess.engine.board.Board.*;
 import static com.chess.engine.board.Move.*;
 import static org.junit.Assert.*;
@@ -37,8 +56,8 @@ public class TestBoard {
         for (final Move move : allMoves) {
             assertFalse(move.isAttack());
             assertFalse(move.isCastlingMove());
-            assertEquals(MoveUtils.exchangeScore(move), 1);
         }
+        assertEquals(MoveUtils.exchangeScore(new GameHistory(board)), 1);
         assertEquals(Iterables.size(allMoves), 40);
         assertEquals(Iterables.size(allPieces), 32);
         assertFalse(BoardUtils.isEndGame(board));
@@ -185,6 +204,611 @@ public class TestBoard {
         assertEquals(BoardUtils.INSTANCE.getPositionAtCoordinate(7), "h8");
     }
 
+    @Test
+    public void testBitBoards() {
+        final Board board = createStandardBoard();
+        assertEquals(BitBoardUtils.bitCount(board.getOccupancy()), 32);
+        assertEquals(BitBoardUtils.bitCount(board.getOccupancy(Alliance.WHITE)), 16);
+        assertEquals(BitBoardUtils.bitCount(board.getOccupancy(Alliance.BLACK)), 16);
+        assertEquals(board.getBitBoard(Alliance.BLACK, Piece.PieceType.PAWN), BitBoardUtils.ROW_MASKS[1]);
+        assertEquals(board.getBitBoard(Alliance.WHITE, Piece.PieceType.PAWN), BitBoardUtils.ROW_MASKS[6]);
+        assertEquals(board.getBitBoard(Alliance.WHITE, Piece.PieceType.KING), BitBoardUtils.squareMask(60));
+        assertTrue(board.isTileOccupied(0));
+        assertFalse(board.isTileOccupied(35));
+        final Move move = MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition("e2"),
+                BoardUtils.INSTANCE.getCoordinateAtPosition("e4"));
+        final Board toBoard = board.currentPlayer().makeMove(move).getToBoard();
+        assertFalse(toBoard.isTileOccupied(BoardUtils.INSTANCE.getCoordinateAtPosition("e2")));
+        assertTrue(toBoard.isTileOccupied(BoardUtils.INSTANCE.getCoordinateAtPosition("e4")));
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            assertEquals(toBoard.isTileOccupied(i), toBoard.getPiece(i) != null);
+        }
+    }
+
+    @Test
+    public void testMagicBitBoards() {
+        final Random random = new Random(42);
+        final int[][] rookDirections = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        final int[][] bishopDirections = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            for (int i = 0; i < 200; i++) {
+                final long occupancy = random.nextLong() & random.nextLong();
+                final long rookAttacks = slowRayAttacks(square, occupancy, rookDirections);
+                final long bishopAttacks = slowRayAttacks(square, occupancy, bishopDirections);
+                assertEquals(MagicBitBoards.rookAttacks(square, occupancy), rookAttacks);
+                assertEquals(MagicBitBoards.bishopAttacks(square, occupancy), bishopAttacks);
+                assertEquals(MagicBitBoards.queenAttacks(square, occupancy), rookAttacks | bishopAttacks);
+            }
+            assertEquals(MagicBitBoards.rookAttacks(square, BitBoardUtils.EMPTY_BOARD),
+                    slowRayAttacks(square, BitBoardUtils.EMPTY_BOARD, rookDirections));
+            assertEquals(MagicBitBoards.bishopAttacks(square, BitBoardUtils.FULL_BOARD),
+                    slowRayAttacks(square, BitBoardUtils.FULL_BOARD, bishopDirections));
+        }
+    }
+
+    @Test
+    public void testJumpTargets() {
+        assertArrayEquals(BitBoardUtils.KNIGHT_TARGETS[0], new int[]{10, 17});
+        assertArrayEquals(BitBoardUtils.KNIGHT_TARGETS[63], new int[]{46, 53});
+        assertEquals(BitBoardUtils.KNIGHT_TARGETS[27].length, 8);
+        assertArrayEquals(BitBoardUtils.KING_TARGETS[7], new int[]{6, 14, 15});
+        assertEquals(BitBoardUtils.KING_TARGETS[36].length, 8);
+        assertArrayEquals(BitBoardUtils.pawnPushTargets(Alliance.WHITE, 52), new int[]{44, 36});
+        assertArrayEquals(BitBoardUtils.pawnPushTargets(Alliance.WHITE, 44), new int[]{36});
+        assertArrayEquals(BitBoardUtils.pawnPushTargets(Alliance.BLACK, 8), new int[]{16, 24});
+        assertArrayEquals(BitBoardUtils.pawnCaptureTargets(Alliance.WHITE, 48), new int[]{41});
+        assertArrayEquals(BitBoardUtils.pawnCaptureTargets(Alliance.BLACK, 15), new int[]{22});
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            assertEquals(BitBoardUtils.bitCount(BitBoardUtils.KNIGHT_ATTACKS[i]), BitBoardUtils.KNIGHT_TARGETS[i].length);
+        }
+    }
+
+    @Test
+    public void testLazyPlayers() throws Exception {
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final Board child = board.currentPlayer().makeMove(MoveFactory.createMove(board,
+                BoardUtils.INSTANCE.getCoordinateAtPosition("e5"),
+                BoardUtils.INSTANCE.getCoordinateAtPosition("f7"))).getToBoard();
+        assertFalse(hasPlayers(child));
+        child.getZobristKey();
+        child.getAllPieces();
+        child.isInCheck(Alliance.BLACK);
+        child.getAttackedSquares(Alliance.WHITE);
+        assertEquals(child.getGameStatus(), GameStatus.IN_PLAY);
+        assertFalse(hasPlayers(child));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Player>> players = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            players.add(executor.submit(() -> (Player) child.blackPlayer()));
+        }
+        for (final Future<Player> player : players) {
+            assertSame(player.get(), child.blackPlayer());
+        }
+        executor.shutdown();
+        assertTrue(hasPlayers(child));
+        assertSame(child.currentPlayer(), child.blackPlayer());
+        assertEncodedMovesEqual(child, FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqNb1/bn2pnp1/3P4/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b KQkq - 0 1"));
+    }
+
+    @Test
+    public void testPinnedPieces() {
+        final Board rookPin = FenUtilities.createGameFromFEN("4k3/4r3/8/8/8/8/4R3/4K3 w - - 0 1");
+        assertTrue(isLegal(rookPin, "e2", "e7"));
+        assertTrue(isLegal(rookPin, "e2", "e4"));
+        assertFalse(isLegal(rookPin, "e2", "a2"));
+        assertFalse(isLegal(rookPin, "e2", "h2"));
+        final Board knightPin = FenUtilities.createGameFromFEN("4k3/8/8/b7/8/8/3N4/4K3 w - - 0 1");
+        for (final Move move : knightPin.currentPlayer().getLegalMoves()) {
+            assertEquals(move.getMovedPiece().getPieceType(), Piece.PieceType.KING);
+        }
+        final Board pawnPin = FenUtilities.createGameFromFEN("4k3/8/8/8/8/2b5/3P4/4K3 w - - 0 1");
+        assertTrue(isLegal(pawnPin, "d2", "c3"));
+        assertFalse(isLegal(pawnPin, "d2", "d3"));
+        assertFalse(isLegal(pawnPin, "d2", "d4"));
+    }
+
+    @Test
+    public void testDoubleCheck() {
+        final Board board = FenUtilities.createGameFromFEN("4k3/8/8/8/8/5n2/Q7/r3K3 w - - 0 1");
+        assertTrue(board.currentPlayer().isInCheck());
+        assertFalse(isLegal(board, "a2", "a1"));
+        assertFalse(isLegal(board, "e1", "f1"));
+        assertFalse(isLegal(board, "e1", "d2"));
+        assertTrue(isLegal(board, "e1", "e2"));
+        assertTrue(isLegal(board, "e1", "f2"));
+        assertEquals(board.currentPlayer().getLegalMoves().size(), 2);
+    }
+
+    @Test
+    public void testEnPassantDiscoveredCheck() {
+        final Board exposed = FenUtilities.createGameFromFEN("8/8/8/KPp4r/8/8/8/4k3 w - c6 0 1");
+        assertFalse(isLegal(exposed, "b5", "c6"));
+        assertTrue(isLegal(exposed, "b5", "b6"));
+        final Board open = FenUtilities.createGameFromFEN("8/8/8/1Pp4r/8/8/8/K3k3 w - c6 0 1");
+        assertTrue(isLegal(open, "b5", "c6"));
+        final Board evasion = FenUtilities.createGameFromFEN("8/8/8/2k5/3Pp3/8/8/4K3 b - d3 0 1");
+        assertTrue(evasion.currentPlayer().isInCheck());
+        assertTrue(isLegal(evasion, "e4", "d3"));
+    }
+
+    @Test
+    public void testCastlingThroughAttackedSquares() {
+        final Board attackedTransit = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/5r2/R3K2R w KQ - 0 1");
+        assertFalse(isLegal(attackedTransit, "e1", "g1"));
+        assertTrue(isLegal(attackedTransit, "e1", "c1"));
+        final Board attackedRookPath = FenUtilities.createGameFromFEN("1r2k3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        assertTrue(isLegal(attackedRookPath, "e1", "c1"));
+        assertTrue(isLegal(attackedRookPath, "e1", "g1"));
+        final Board attackedDestination = FenUtilities.createGameFromFEN("2r1k3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        assertFalse(isLegal(attackedDestination, "e1", "c1"));
+        assertTrue(isLegal(attackedDestination, "e1", "g1"));
+        final Board inCheck = FenUtilities.createGameFromFEN("4r1k1/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        assertFalse(isLegal(inCheck, "e1", "g1"));
+        assertFalse(isLegal(inCheck, "e1", "c1"));
+    }
+
+    @Test
+    public void testSearchBoard() {
+        final Board board = createStandardBoard();
+        final SearchBoard searchBoard = SearchBoard.fromBoard(board);
+        final long startKey = searchBoard.getZobristKey();
+        final MoveList legalMoves = new MoveList();
+        searchBoard.generateLegalMoves(legalMoves);
+        assertEquals(legalMoves.size(), board.currentPlayer().getLegalMoves().size());
+        final MoveList replies = new MoveList();
+        int numReplies = 0;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            final int move = legalMoves.get(i);
+            assertEquals(MoveEncoding.encode(MoveEncoding.decode(board, move)), move);
+            searchBoard.makeMove(move);
+            assertEquals(searchBoard.getMoveMaker(), Alliance.BLACK);
+            searchBoard.generateLegalMoves(replies);
+            numReplies += replies.size();
+            searchBoard.unmakeMove();
+            assertEquals(searchBoard.getZobristKey(), startKey);
+        }
+        assertEquals(numReplies, 400);
+        assertEquals(searchBoard.toBoard().toString(), board.toString());
+    }
+
+    @Test
+    public void testSearchStack() {
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final SearchStack searchStack = SearchStack.get();
+        assertSame(searchStack, SearchStack.get());
+        final SearchBoard searchBoard = SearchBoard.fromBoard(board);
+        final MoveList rootMoves = searchStack.generateLegalMoves(searchBoard);
+        assertSame(rootMoves, searchStack.getMoveList(0));
+        assertEquals(rootMoves.size(), 48);
+        int numReplies = 0;
+        for (int i = 0; i < rootMoves.size(); i++) {
+            searchBoard.makeMove(rootMoves.get(i));
+            final MoveList replies = searchStack.generateLegalMoves(searchBoard);
+            assertSame(replies, searchStack.getMoveList(1));
+            numReplies += replies.size();
+            searchBoard.unmakeMove();
+        }
+        assertEquals(rootMoves.size(), 48);
+        assertEquals(numReplies, 2039);
+        final List<Move> moves = new ArrayList<>();
+        int numPieceMoves = 0;
+        for (final Piece piece : board.getWhitePieces()) {
+            piece.generateMoves(board, moves);
+            numPieceMoves += piece.calculateLegalMoves(board).size();
+            assertEquals(moves.size(), numPieceMoves);
+        }
+    }
+
+    @Test
+    public void testZobristKey() {
+        final Board board = createStandardBoard();
+        final Board b1 = makeMove(board, "g1", "f3");
+        final Board b2 = makeMove(b1, "g8", "f6");
+        final Board b3 = makeMove(b2, "f3", "g1");
+        final Board b4 = makeMove(b3, "f6", "g8");
+        assertNotEquals(b1.getZobristKey(), board.getZobristKey());
+        assertNotEquals(b2.getZobristKey(), board.getZobristKey());
+        assertNotEquals(b3.getZobristKey(), board.getZobristKey());
+        assertEquals(b4.getZobristKey(), board.getZobristKey());
+        assertEquals(b4, board);
+        assertEquals(b4.hashCode(), board.hashCode());
+        assertEquals(SearchBoard.fromBoard(b4).getZobristKey(), board.getZobristKey());
+    }
+
+    @Test
+    public void testLegalMoveLookup() {
+        final Board board = FenUtilities.createGameFromFEN("4k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        final int a7 = BoardUtils.INSTANCE.getCoordinateAtPosition("a7");
+        final int a8 = BoardUtils.INSTANCE.getCoordinateAtPosition("a8");
+        final Move queenPromotion = MoveFactory.createMove(board, a7, a8);
+        assertTrue(queenPromotion instanceof PawnPromotion);
+        assertEquals(((PawnPromotion) queenPromotion).getPromotionPiece().getPieceType(), Piece.PieceType.QUEEN);
+        final Move knightPromotion = MoveFactory.createMove(board, a7, a8, Piece.PieceType.KNIGHT);
+        assertEquals(((PawnPromotion) knightPromotion).getPromotionPiece().getPieceType(), Piece.PieceType.KNIGHT);
+        assertTrue(board.currentPlayer().makeMove(knightPromotion).getMoveStatus().isDone());
+        assertEquals(board.currentPlayer().makeMove(knightPromotion).getToBoard().getPiece(a8).getPieceType(),
+                Piece.PieceType.KNIGHT);
+        assertEquals(MoveFactory.createMove(board, a7, BoardUtils.INSTANCE.getCoordinateAtPosition("a6")),
+                MoveFactory.getNullMove());
+        assertEquals(MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition("e8"),
+                BoardUtils.INSTANCE.getCoordinateAtPosition("d8")).getMovedPiece().getPieceAlliance(), Alliance.BLACK);
+        assertFalse(board.currentPlayer().makeMove(MoveFactory.getNullMove()).getMoveStatus().isDone());
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+        }
+    }
+
+    @Test
+    public void testAttackQueries() {
+        final Board board = FenUtilities.createGameFromFEN("5k2/8/8/8/5N2/8/5R2/4K2R w K - 0 1");
+        final int f4 = BoardUtils.INSTANCE.getCoordinateAtPosition("f4");
+        assertTrue(board.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("g6"), Alliance.WHITE));
+        assertFalse(board.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("f5"), Alliance.WHITE));
+        assertTrue(board.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("e7"), Alliance.BLACK));
+        assertEquals(board.getPinnedPieces(Alliance.WHITE), 0L);
+        final Move discoveredCheck = MoveFactory.createMove(board, f4, BoardUtils.INSTANCE.getCoordinateAtPosition("d5"));
+        assertTrue(board.givesCheck(discoveredCheck));
+        assertTrue(BoardUtils.kingThreat(discoveredCheck));
+        final Move castle = MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition("e1"),
+                BoardUtils.INSTANCE.getCoordinateAtPosition("g1"));
+        assertTrue(castle.isCastlingMove());
+        assertFalse(board.givesCheck(castle));
+        final Move quiet = MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition("h1"),
+                BoardUtils.INSTANCE.getCoordinateAtPosition("h2"));
+        assertFalse(board.givesCheck(quiet));
+        final Board pinned = FenUtilities.createGameFromFEN("4k3/4r3/8/8/8/8/4N3/4K3 w - - 0 1");
+        assertEquals(pinned.getPinnedPieces(Alliance.WHITE),
+                BitBoardUtils.squareMask(BoardUtils.INSTANCE.getCoordinateAtPosition("e2")));
+        assertEquals(pinned.getPinnedPieces(Alliance.BLACK), 0L);
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final Board toBoard = board.currentPlayer().makeMove(move).getToBoard();
+            assertEquals(board.givesCheck(move), toBoard.currentPlayer().isInCheck());
+        }
+    }
+
+    @Test
+    public void testAttackedSquares() {
+        final Board board = createStandardBoard();
+        assertEquals(board.getAttackedSquares(Alliance.WHITE) & BitBoardUtils.ROW_MASKS[5], BitBoardUtils.ROW_MASKS[5]);
+        assertEquals(board.getAttackedSquares(Alliance.BLACK) & BitBoardUtils.ROW_MASKS[2], BitBoardUtils.ROW_MASKS[2]);
+        assertEquals(board.getAttackedSquares(Alliance.WHITE) & BitBoardUtils.ROW_MASKS[4], 0L);
+        final Board pawnBoard = FenUtilities.createGameFromFEN("4k3/8/8/8/4P3/8/8/4K3 w - - 0 1");
+        assertTrue(pawnBoard.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("d5"), Alliance.WHITE));
+        assertTrue(pawnBoard.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("f5"), Alliance.WHITE));
+        assertFalse(pawnBoard.isSquareAttacked(BoardUtils.INSTANCE.getCoordinateAtPosition("e5"), Alliance.WHITE));
+        assertEquals(pawnBoard.getAttacks(BoardUtils.INSTANCE.getCoordinateAtPosition("e4")),
+                BitBoardUtils.pawnAttacks(Alliance.WHITE, BoardUtils.INSTANCE.getCoordinateAtPosition("e4")));
+        assertEquals(BitBoardUtils.bitCount(pawnBoard.getAttackedSquares(Alliance.BLACK)), 5);
+        assertFalse(pawnBoard.isInCheck(Alliance.BLACK));
+    }
+
+    @Test
+    public void testPieceFlyweights() {
+        final Board board = createStandardBoard();
+        assertSame(board.getPiece(4), PieceUtils.INSTANCE.getKing(Alliance.BLACK, 4, true, false, true, true));
+        assertSame(board.getPiece(52), PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 52, true));
+        final Board fenBoard = FenUtilities.createGameFromFEN("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1");
+        assertSame(fenBoard.getPiece(60), PieceUtils.INSTANCE.getKing(Alliance.WHITE, 60, true, false, true, false));
+        assertSame(fenBoard.getPiece(56), PieceUtils.INSTANCE.getRook(Alliance.WHITE, 56, false));
+        assertSame(fenBoard.getPiece(63), PieceUtils.INSTANCE.getRook(Alliance.WHITE, 63, true));
+        final Board afterCastle = fenBoard.currentPlayer().makeMove(
+                MoveFactory.createMove(fenBoard, 60, 62)).getToBoard();
+        assertSame(afterCastle.getPiece(62), PieceUtils.INSTANCE.getKing(Alliance.WHITE, 62, false, true, false, false));
+        assertSame(afterCastle.getPiece(61), PieceUtils.INSTANCE.getRook(Alliance.WHITE, 61, false));
+        final Board afterPush = makeMove(board, "e2", "e4");
+        assertSame(afterPush.getPiece(36), PieceUtils.INSTANCE.getPawn(Alliance.WHITE, 36, false));
+        assertSame(afterPush.getPiece(36), makeMove(makeMove(afterPush, "e7", "e5"), "g1", "f3").getPiece(36));
+        assertTrue(PieceUtils.INSTANCE.getKing(Alliance.BLACK, 4, false, true, false, false).isCastled());
+        assertFalse(PieceUtils.INSTANCE.getQueen(Alliance.WHITE, 0, false).isFirstMove());
+    }
+
+    @Test
+    public void testGameHistory() {
+        final String[] game = {"e2", "e4", "d7", "d5", "e4", "d5", "d8", "d5", "b1", "c3", "d5", "a5",
+                "g1", "f3", "g8", "f6", "f3", "g1", "f6", "g8", "g1", "f3", "g8", "f6",
+                "f3", "g1", "f6", "g8", "g1", "f3", "g8", "f6", "f3", "g1", "f6", "g8"};
+        final GameHistory history = new GameHistory(createStandardBoard());
+        final Board[] boards = new Board[game.length / 2 + 1];
+        boards[0] = history.getStartBoard();
+        for (int i = 0; i < game.length; i += 2) {
+            final Board board = history.getCurrentBoard();
+            final Move move = MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition(game[i]),
+                    BoardUtils.INSTANCE.getCoordinateAtPosition(game[i + 1]));
+            final Board toBoard = board.currentPlayer().makeMove(move).getToBoard();
+            history.addMove(move, toBoard);
+            boards[i / 2 + 1] = toBoard;
+            assertEquals(toBoard.getTransitionMove(), history.getLastMove(0));
+        }
+        assertEquals(history.size(), 18);
+        assertEquals(history.getMoveText(2), "exd5");
+        assertEquals(history.getMoveMaker(3), Alliance.BLACK);
+        assertEquals(MoveEncoding.getCapturedPieceType(history.getMove(3)), Piece.PieceType.PAWN);
+        assertEquals(MoveUtils.exchangeScore(history), 25);
+        final int[] lastMoves = BoardUtils.lastNMoves(history, 3);
+        assertEquals(lastMoves.length, 3);
+        assertEquals(MoveEncoding.toString(lastMoves[0]), "f6g8");
+        assertEquals(MoveEncoding.toString(lastMoves[2]), "g8f6");
+        assertEquals(BoardUtils.lastNMoves(history, 100).length, 18);
+        for (int ply = 0; ply <= history.size(); ply++) {
+            assertEquals(history.getBoard(ply), boards[ply]);
+        }
+        for (int ply = history.size() - 1; ply >= 14; ply--) {
+            assertEquals(history.undoLastMove(), boards[ply]);
+        }
+        assertEquals(history.size(), 14);
+        assertEquals(MoveEncoding.toString(history.getLastMove(0)), "f6g8");
+        assertEquals(history.getLastMove(14), MoveEncoding.NULL_MOVE);
+        history.clear();
+        assertEquals(history.size(), 0);
+        assertEquals(history.getCurrentBoard(), history.getStartBoard());
+    }
+
+    @Test
+    public void testChildBoardMoveGeneration() {
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final Board child = board.currentPlayer().makeMove(move).getToBoard();
+            assertEncodedMovesEqual(child, SearchBoard.fromBoard(child).toBoard());
+            for (final Move reply : child.currentPlayer().getLegalMoves()) {
+                final Board grandChild = child.currentPlayer().makeMove(reply).getToBoard();
+                assertEncodedMovesEqual(grandChild, SearchBoard.fromBoard(grandChild).toBoard());
+            }
+        }
+    }
+
+    @Test
+    public void testCopyOnWriteBoard() {
+        final Board board = Board.createStandardBoard();
+        final Board child = makeMove(board, "g1", "f3");
+        assertSame(child.getBlackPieces(), board.getBlackPieces());
+        assertNotSame(child.getWhitePieces(), board.getWhitePieces());
+        assertNull(child.getPiece(BoardUtils.INSTANCE.getCoordinateAtPosition("g1")));
+        assertEquals(child.getPiece(BoardUtils.INSTANCE.getCoordinateAtPosition("f3")).getPieceType(),
+                Piece.PieceType.KNIGHT);
+        assertEquals(board.getPiece(BoardUtils.INSTANCE.getCoordinateAtPosition("g1")).getPieceType(),
+                Piece.PieceType.KNIGHT);
+        Board current = Board.createStandardBoard();
+        for (int ply = 0; ply < 60 && !current.getGameStatus().isTerminal(); ply++) {
+            final List<Move> moves = new ArrayList<>(current.currentPlayer().getLegalMoves());
+            current = current.currentPlayer().makeMove(moves.get((7 * ply) % moves.size())).getToBoard();
+            final Builder builder = new Builder();
+            current.getAllPieces().forEach(builder::setPiece);
+            builder.setMoveMaker(current.getMoveMaker());
+            builder.setEnPassantPawn(current.getEnPassantPawn());
+            final Board rebuilt = builder.build();
+            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                assertSame(current.getPiece(i), rebuilt.getPiece(i));
+            }
+            assertEquals(current.getZobristKey(), rebuilt.getZobristKey());
+            assertEquals(current.getCastlingRights(), rebuilt.getCastlingRights());
+            assertEncodedMovesEqual(current, rebuilt);
+        }
+    }
+
+    @Test
+    public void testIncrementalMaterialScore() {
+        final Board board = Board.createStandardBoard();
+        assertEquals(PieceSquareTable.middleGame(board.getMaterialScore()), 0);
+        assertEquals(PieceSquareTable.endGame(board.getMaterialScore()), 0);
+        assertEquals(PieceSquareTable.middleGame(PieceSquareTable.pack(-1234, 567)), -1234);
+        assertEquals(PieceSquareTable.endGame(PieceSquareTable.pack(-1234, 567)), 567);
+        for (final String fen : new String[] {
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"}) {
+            final Board root = FenUtilities.createGameFromFEN(fen);
+            for (final Move move : root.currentPlayer().getLegalMoves()) {
+                final Board child = root.currentPlayer().makeMove(move).getToBoard();
+                assertMaterialScore(child);
+                for (final Move reply : child.currentPlayer().getLegalMoves()) {
+                    assertMaterialScore(child.currentPlayer().makeMove(reply).getToBoard());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGameStatus() {
+        assertEquals(createStandardBoard().getGameStatus(), GameStatus.IN_PLAY);
+        final Board smotheredMate = FenUtilities.createGameFromFEN("6rk/5Npp/8/8/8/8/8/6K1 b - - 0 1");
+        assertEquals(smotheredMate.getGameStatus(), GameStatus.CHECKMATE);
+        assertSame(smotheredMate.getGameStatus(), smotheredMate.getGameStatus());
+        assertTrue(BoardUtils.isEndGame(smotheredMate));
+        assertTrue(smotheredMate.currentPlayer().isInCheckMate());
+        final Board staleMate = FenUtilities.createGameFromFEN("k7/8/1QK5/8/8/8/8/8 b - - 0 1");
+        assertEquals(staleMate.getGameStatus(), GameStatus.STALEMATE);
+        assertTrue(staleMate.currentPlayer().isInStaleMate());
+        final Board pinnedOnly = FenUtilities.createGameFromFEN("k7/1r6/8/8/8/8/8/QK6 b - - 0 1");
+        assertEquals(pinnedOnly.getGameStatus(), GameStatus.IN_PLAY);
+        final Board pinnedStaleMate = FenUtilities.createGameFromFEN("k7/1r1N4/1K6/8/8/8/8/7Q b - - 0 1");
+        assertEquals(pinnedStaleMate.getGameStatus(), GameStatus.STALEMATE);
+        assertTrue(pinnedStaleMate.currentPlayer().isInStaleMate());
+        final Board blockable = FenUtilities.createGameFromFEN("k7/pp6/8/8/8/8/2r5/QK2R3 b - - 0 1");
+        assertEquals(blockable.getGameStatus(), GameStatus.IN_PLAY);
+        final Board backRankMate = FenUtilities.createGameFromFEN("4R1k1/5ppp/8/8/8/8/8/6K1 b - - 0 1");
+        assertEquals(backRankMate.getGameStatus(), GameStatus.CHECKMATE);
+        assertEquals(backRankMate.currentPlayer().getLegalMoves().size(), 0);
+    }
+
+    @Test
+    public void testTranspositionTable() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long key = createStandardBoard().getZobristKey();
+        assertEquals(table.probe(key), TranspositionTable.NO_ENTRY);
+        table.store(key, 1234, -250, 6, TranspositionTable.LOWER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(TranspositionTable.getMove(entry), 1234);
+        assertEquals(TranspositionTable.getScore(entry), -250);
+        assertEquals(TranspositionTable.getDepth(entry), 6);
+        assertEquals(TranspositionTable.getBound(entry), TranspositionTable.LOWER_BOUND);
+        final long collidingKey = key + table.capacity();
+        table.store(collidingKey, 1, 0, 2, TranspositionTable.EXACT);
+        assertEquals(table.probe(collidingKey), TranspositionTable.NO_ENTRY);
+        table.newSearch();
+        table.store(collidingKey, 1, 0, 2, TranspositionTable.EXACT);
+        assertNotEquals(table.probe(collidingKey), TranspositionTable.NO_ENTRY);
+        assertEquals(table.probe(key), TranspositionTable.NO_ENTRY);
+        assertEquals(table.getHits(), 2);
+        final Board castled = makeMove(FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/4K2R w K - 0 1"), "e1", "g1");
+        final Board walked = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/5RK1 b - - 0 1");
+        assertEquals(castled.getZobristKey(), walked.getZobristKey());
+        assertNotEquals(TranspositionTable.searchKey(castled), TranspositionTable.searchKey(walked));
+        assertEquals(TranspositionTable.searchKey(SearchBoard.fromBoard(castled)), TranspositionTable.searchKey(castled));
+        assertEquals(TranspositionTable.searchKey(SearchBoard.fromBoard(walked)), TranspositionTable.searchKey(walked));
+        final TranspositionTable castlingTable = new TranspositionTable(1);
+        castlingTable.store(TranspositionTable.searchKey(castled), 1, 40, 3, TranspositionTable.EXACT);
+        assertEquals(castlingTable.probe(TranspositionTable.searchKey(walked)), TranspositionTable.NO_ENTRY);
+        assertEquals(TranspositionTable.getScore(castlingTable.probe(TranspositionTable.searchKey(castled))), 40);
+    }
+
+    @Test
+    public void testEvaluationCache() {
+        final EvaluationCache cache = new EvaluationCache(StandardBoardEvaluator.get(), 1);
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final Board child = board.currentPlayer().makeMove(move).getToBoard();
+            assertEquals(cache.evaluate(child, 2), StandardBoardEvaluator.get().evaluate(child, 2));
+        }
+        assertEquals(cache.getHits(), 0);
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final Board child = board.currentPlayer().makeMove(move).getToBoard();
+            assertEquals(cache.evaluate(child, 2), StandardBoardEvaluator.get().evaluate(child, 2));
+        }
+        assertEquals(cache.getHits(), 48);
+        final Board mate = FenUtilities.createGameFromFEN("6rk/5Npp/8/8/8/8/8/6K1 b - - 0 1");
+        assertEquals(cache.evaluate(mate, 3), StandardBoardEvaluator.get().evaluate(mate, 3));
+        assertEquals(cache.evaluate(mate, 1), StandardBoardEvaluator.get().evaluate(mate, 1));
+        assertEquals(cache.getProbes(), 98);
+        assertEquals(cache.getHits(), 48);
+        final Board castled = makeMove(FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/4K2R w K - 0 1"), "e1", "g1");
+        final Board walked = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/5RK1 b - - 0 1");
+        assertEquals(castled.getZobristKey(), walked.getZobristKey());
+        assertTrue(castled.isCastled(Alliance.WHITE));
+        assertFalse(walked.isCastled(Alliance.WHITE));
+        assertEquals(cache.evaluate(castled, 0), StandardBoardEvaluator.get().evaluate(castled, 0));
+        assertEquals(cache.evaluate(walked, 0), StandardBoardEvaluator.get().evaluate(walked, 0));
+        assertEquals(cache.evaluate(castled, 0) - cache.evaluate(walked, 0), 40);
+        final EvaluationCache searchCache = new EvaluationCache(BitBoardEvaluator.get(), 1);
+        assertEquals(searchCache.evaluate(SearchBoard.fromBoard(castled), 0), BitBoardEvaluator.get().evaluate(castled, 0));
+        assertEquals(searchCache.evaluate(SearchBoard.fromBoard(walked), 0), BitBoardEvaluator.get().evaluate(walked, 0));
+        assertEquals(searchCache.evaluate(SearchBoard.fromBoard(castled), 0), BitBoardEvaluator.get().evaluate(castled, 0));
+        assertEquals(searchCache.getHits(), 1);
+    }
+
+    @Test
+    public void testPawnHashTable() {
+        final PawnHashTable table = new PawnHashTable(1);
+        assertEquals(table.probe(1234L), PawnHashTable.NO_ENTRY);
+        final long entry = table.store(1234L, -75, 0);
+        assertEquals(table.probe(1234L), entry);
+        assertEquals(PawnHashTable.getScore(entry, Alliance.WHITE), -75);
+        assertEquals(PawnHashTable.getScore(entry, Alliance.BLACK), 0);
+        assertEquals(table.probe(1234L + table.capacity()), PawnHashTable.NO_ENTRY);
+        final PawnStructureAnalyser analyser = PawnStructureAnalyser.get();
+        for (final String fen : new String[] {
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"}) {
+            final Board root = FenUtilities.createGameFromFEN(fen);
+            for (final Move move : root.currentPlayer().getLegalMoves()) {
+                final Board child = root.currentPlayer().makeMove(move).getToBoard();
+                for (final Move reply : child.currentPlayer().getLegalMoves()) {
+                    final Board grandChild = child.currentPlayer().makeMove(reply).getToBoard();
+                    assertEquals(grandChild.getPawnKey(), SearchBoard.fromBoard(grandChild).toBoard().getPawnKey());
+                    assertEquals(analyser.pawnStructureScore(grandChild, Alliance.WHITE),
+                            analyser.pawnStructureScore(grandChild.whitePlayer()));
+                    assertEquals(analyser.pawnStructureScore(grandChild, Alliance.BLACK),
+                            analyser.pawnStructureScore(grandChild.blackPlayer()));
+                }
+            }
+        }
+        assertTrue(analyser.getPawnHashTable().getHitRate() > 0.5);
+    }
+
+    @Test
+    public void testBitBoardEvaluator() {
+        final BoardEvaluator evaluator = BitBoardEvaluator.get();
+        assertEquals(evaluator.evaluate(Board.createStandardBoard(), 0), 0);
+        final Board position4 = FenUtilities.createGameFromFEN(
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        final Board mirrored = FenUtilities.createGameFromFEN(
+                "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1");
+        assertEquals(evaluator.evaluate(position4, 0), -evaluator.evaluate(mirrored, 0));
+        final Board smotheredMate = FenUtilities.createGameFromFEN("6rk/5Npp/8/8/8/8/8/6K1 b - - 0 1");
+        assertTrue(evaluator.evaluate(smotheredMate, 2) > 100000);
+        assertEquals(evaluator.evaluate(smotheredMate, 2) - evaluator.evaluate(smotheredMate, 1), 100000 * 100);
+        final Board checked = makeMove(Board.createStandardBoard(), "e2", "e4");
+        final Board blackChecked = makeMove(makeMove(checked, "f7", "f6"), "d1", "h5");
+        assertTrue(blackChecked.isInCheck(Alliance.BLACK));
+        assertTrue(evaluator.evaluate(blackChecked, 0) > evaluator.evaluate(makeMove(makeMove(checked, "f7", "f6"), "d1", "g4"), 0));
+        assertEquals(evaluator.evaluate(SearchBoard.fromBoard(smotheredMate), 2), evaluator.evaluate(smotheredMate, 2));
+        final SearchBoard searchBoard = SearchBoard.fromBoard(FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"));
+        final MoveList legalMoves = new MoveList();
+        searchBoard.generateLegalMoves(legalMoves);
+        for (int i = 0; i < legalMoves.size(); i++) {
+            searchBoard.makeMove(legalMoves.get(i));
+            final Board board = searchBoard.toBoard();
+            assertEquals(searchBoard.getMaterialScore(), board.getMaterialScore());
+            assertEquals(searchBoard.getPawnKey(), board.getPawnKey());
+            assertEquals(evaluator.evaluate(searchBoard, 0), evaluator.evaluate(board, 0));
+            assertEquals(LazyBoardEvaluator.get().evaluate(searchBoard, 0), LazyBoardEvaluator.get().evaluate(board, 0));
+            searchBoard.unmakeMove();
+        }
+    }
+
+    @Test
+    public void testLazyBoardEvaluator() {
+        final BoardEvaluator evaluator = LazyBoardEvaluator.get();
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final int rookStructure = RookStructureAnalyser.get().rookStructureScore(board, Alliance.WHITE) -
+                RookStructureAnalyser.get().rookStructureScore(board, Alliance.BLACK);
+        final int fullScore = evaluator.evaluate(board, 0);
+        assertEquals(fullScore, BitBoardEvaluator.get().evaluate(board, 0) + rookStructure);
+        assertEquals(evaluator.evaluate(board, 0, fullScore - 1, fullScore + 1), fullScore);
+        final int materialScore = PieceSquareTable.middleGame(board.getMaterialScore());
+        assertEquals(evaluator.evaluate(board, 0, 5000, 5001), materialScore);
+        assertEquals(evaluator.evaluate(board, 0, -5001, -5000), materialScore);
+        final Board smotheredMate = FenUtilities.createGameFromFEN("6rk/5Npp/8/8/8/8/8/6K1 b - - 0 1");
+        assertEquals(evaluator.evaluate(smotheredMate, 2, -5001, -5000), evaluator.evaluate(smotheredMate, 2));
+        assertTrue(evaluator.evaluate(smotheredMate, 2, -5001, -5000) > 100000);
+        final Board openFile = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/7P/R3K2R w KQ - 0 1");
+        assertEquals(RookStructureAnalyser.get().rookStructureScore(openFile, Alliance.WHITE), 25);
+        assertEquals(RookStructureAnalyser.get().rookStructureScore(openFile, openFile.whitePlayer()), 25);
+        final Board queenMobility = FenUtilities.createGameFromFEN("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertLazyBoundsSound(queenMobility, 1500);
+        final Board rookMobility = FenUtilities.createGameFromFEN("4k3/8/8/2pP4/8/8/3K4/7R b - - 0 1");
+        assertLazyBoundsSound(rookMobility, 1000);
+        final int[] windows = {-3000, -1500, -1000, -500, -100, 0, 100, 500, 1000, 1500, 3000};
+        final String[] fens = {"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                "7k/5Q2/6K1/8/8/8/8/8 b - - 0 1",
+                "4k3/8/8/2pP4/8/8/3K4/7R b - - 0 1"};
+        final MoveList moves = new MoveList();
+        final MoveList replies = new MoveList();
+        for (final String fen : fens) {
+            final SearchBoard searchBoard = SearchBoard.fromBoard(FenUtilities.createGameFromFEN(fen));
+            searchBoard.generateLegalMoves(moves);
+            for (int i = 0; i < moves.size(); i++) {
+                searchBoard.makeMove(moves.get(i));
+                searchBoard.generateLegalMoves(replies);
+                for (int j = 0; j < replies.size(); j++) {
+                    searchBoard.makeMove(replies.get(j));
+                    for (final int alpha : windows) {
+                        assertLazyBoundsSound(searchBoard, alpha);
+                    }
+                    searchBoard.unmakeMove();
+                }
+                searchBoard.unmakeMove();
+            }
+        }
+    }
+
     @Test
     public void mem() {
         final Runtime runtime = Runtime.getRuntime();
@@ -195,6 +819,91 @@ public class TestBoard {
         System.out.println("That took " + (start + end) + " bytes.");
     }
 
+    private static long slowRayAttacks(final int square,
+                                       final long occupancy,
+                                       final int[][] directions) {
+        long attacks = 0L;
+        for (final int[] direction : directions) {
+            int row = square / 8 + direction[0];
+            int column = square % 8 + direction[1];
+            while (row >= 0 && row < 8 && column >= 0 && column < 8) {
+                final long target = 1L << (row * 8 + column);
+                attacks |= target;
+                if ((occupancy & target) != 0) {
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean hasPlayers(final Board board) throws ReflectiveOperationException {
+        final Field whitePlayer = Board.class.getDeclaredField("whitePlayer");
+        final Field blackPlayer = Board.class.getDeclaredField("blackPlayer");
+        whitePlayer.setAccessible(true);
+        blackPlayer.setAccessible(true);
+        return whitePlayer.get(board) != null && blackPlayer.get(board) != null;
+    }
+
+    private static void assertLazyBoundsSound(final Board board,
+                                              final int alpha) {
+        assertLazyBoundsSound(SearchBoard.fromBoard(board), alpha);
+    }
+
+    private static void assertLazyBoundsSound(final SearchBoard board,
+                                              final int alpha) {
+        final int beta = alpha + 50;
+        final int fullScore = LazyBoardEvaluator.get().evaluate(board, 0);
+        final int lazyScore = LazyBoardEvaluator.get().evaluate(board, 0, alpha, beta);
+        assertEquals(lazyScore <= alpha, fullScore <= alpha);
+        assertEquals(lazyScore >= beta, fullScore >= beta);
+    }
+
+    private static boolean isLegal(final Board board,
+                                   final String from,
+                                   final String to) {
+        return board.getLegalMove(BoardUtils.INSTANCE.getCoordinateAtPosition(from),
+                BoardUtils.INSTANCE.getCoordinateAtPosition(to), null) != null;
+    }
+
+    private static Board makeMove(final Board board,
+                                  final String from,
+                                  final String to) {
+        final Move move = MoveFactory.createMove(board, BoardUtils.INSTANCE.getCoordinateAtPosition(from),
+                BoardUtils.INSTANCE.getCoordinateAtPosition(to));
+        return board.currentPlayer().makeMove(move).getToBoard();
+    }
+
+    private static void assertEncodedMovesEqual(final Board board,
+                                                final Board expected) {
+        for (final Alliance alliance : Alliance.values()) {
+            final Set<Integer> moves = new HashSet<>();
+            final Set<Integer> expectedMoves = new HashSet<>();
+            for (final Move move : alliance.choosePlayer(board.whitePlayer(), board.blackPlayer()).getLegalMoves()) {
+                moves.add(MoveEncoding.encode(move));
+            }
+            for (final Move move : alliance.choosePlayer(expected.whitePlayer(), expected.blackPlayer()).getLegalMoves()) {
+                expectedMoves.add(MoveEncoding.encode(move));
+            }
+            assertEquals(moves, expectedMoves);
+        }
+    }
+
+    private static void assertMaterialScore(final Board board) {
+        int middleGame = 0;
+        for (final Piece piece : board.getAllPieces()) {
+            final int sign = piece.getPieceAlliance().isWhite() ? 1 : -1;
+            middleGame += sign * (piece.getPieceValue() + piece.locationBonus());
+        }
+        final Builder builder = new Builder();
+        board.getAllPieces().forEach(builder::setPiece);
+        builder.setMoveMaker(board.getMoveMaker());
+        assertEquals(PieceSquareTable.middleGame(board.getMaterialScore()), middleGame);
+        assertEquals(board.getMaterialScore(), builder.build().getMaterialScore());
+    }
+
     private static int calculatedActivesFor(final Board board,
                                             final Alliance alliance) {
         int count = 0;
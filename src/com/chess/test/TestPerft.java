@@ -0,0 +1,93 @@
+package com.chess.test;
+
+import com.chess.engine.board.Board;
+import com.chess.perft.ParallelPerft;
+import com.chess.perft.Perft;
+import com.chess.perft.PerftHash;
+import com.chess.perft.PerftResult;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPerft {
+
+    private static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_4_MIRRORED = "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    @Test
+    public void testStartPosition() {
+        assertPerft(START_POSITION, 20, 400, 8902, 197281);
+        assertEquals(Perft.perft(FenUtilities.createGameFromFEN(START_POSITION), 4),
+                new PerftResult(197281, 1576, 0, 0, 0, 469));
+    }
+
+    @Test
+    public void testKiwipete() {
+        assertPerft(KIWIPETE, 48, 2039, 97862);
+        assertEquals(Perft.perft(FenUtilities.createGameFromFEN(KIWIPETE), 3),
+                new PerftResult(97862, 17102, 45, 3162, 0, 993));
+    }
+
+    @Test
+    public void testPosition3() {
+        assertPerft(POSITION_3, 14, 191, 2812, 43238);
+        assertEquals(Perft.perft(FenUtilities.createGameFromFEN(POSITION_3), 4),
+                new PerftResult(43238, 3348, 123, 0, 0, 1680));
+    }
+
+    @Test
+    public void testPosition4() {
+        assertPerft(POSITION_4, 6, 264, 9467);
+        assertPerft(POSITION_4_MIRRORED, 6, 264, 9467);
+        assertEquals(Perft.perft(FenUtilities.createGameFromFEN(POSITION_4), 3),
+                new PerftResult(9467, 1021, 4, 0, 120, 38));
+    }
+
+    @Test
+    public void testPosition5() {
+        assertPerft(POSITION_5, 44, 1486, 62379);
+    }
+
+    @Test
+    public void testPosition6() {
+        assertPerft(POSITION_6, 46, 2079, 89890);
+    }
+
+    @Test
+    public void testDivide() {
+        final Board board = FenUtilities.createGameFromFEN(KIWIPETE);
+        final Map<String, PerftResult> divide = Perft.divide(board, 2);
+        assertEquals(divide.size(), 48);
+        assertEquals(divide.get("e1g1").getNodes(), 43);
+        assertEquals(divide.get("e1c1").getNodes(), 43);
+        assertEquals(divide.values().stream().mapToLong(PerftResult::getNodes).sum(), 2039);
+    }
+
+    @Test
+    public void testParallelPerft() {
+        final ParallelPerft parallelPerft = new ParallelPerft(4, new PerftHash(16), 2);
+        assertEquals(parallelPerft.perft(FenUtilities.createGameFromFEN(START_POSITION), 4), 197281);
+        assertEquals(parallelPerft.perft(FenUtilities.createGameFromFEN(KIWIPETE), 3), 97862);
+        assertEquals(parallelPerft.perft(FenUtilities.createGameFromFEN(POSITION_3), 5), 674624);
+        assertEquals(parallelPerft.perft(FenUtilities.createGameFromFEN(POSITION_4), 3), 9467);
+        assertTrue(parallelPerft.getPerftHash().getHits() > 0);
+        parallelPerft.shutdown();
+    }
+
+    private static void assertPerft(final String fen,
+                                    final long... expectedNodes) {
+        final Board board = FenUtilities.createGameFromFEN(fen);
+        for (int depth = 1; depth <= expectedNodes.length; depth++) {
+            assertEquals(fen + " depth " + depth, expectedNodes[depth - 1], Perft.perft(board, depth).getNodes());
+        }
+    }
+}